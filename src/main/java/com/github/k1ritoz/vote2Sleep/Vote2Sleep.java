@@ -7,6 +7,7 @@ import com.github.k1ritoz.vote2Sleep.listeners.*;
 import com.github.k1ritoz.vote2Sleep.managers.*;
 import com.github.k1ritoz.vote2Sleep.platform.PlatformAdapter;
 import com.github.k1ritoz.vote2Sleep.platform.PlatformDetector;
+import com.github.k1ritoz.vote2Sleep.scheduler.TickDriver;
 import com.github.k1ritoz.vote2Sleep.utils.UpdateChecker;
 
 import org.bukkit.plugin.java.JavaPlugin;
@@ -22,6 +23,12 @@ public final class Vote2Sleep extends JavaPlugin {
     private DatabaseManager databaseManager;
     private HooksManager hooksManager;
     private DawnAnimationManager dawnAnimationManager;
+    private EligibilityTracker eligibilityTracker;
+    private ExemptionService exemptionService;
+    private WorldStateSnapshot worldStateSnapshot;
+    private TickDriver tickDriver;
+    private ServerHealthMonitor serverHealthMonitor;
+    private LoadSheddingManager loadSheddingManager;
     private Vote2SleepAPI api;
     private UpdateChecker updateChecker;
 
@@ -105,6 +112,10 @@ public final class Vote2Sleep extends JavaPlugin {
             // Plugin ID from bStats
             int pluginId = 26722;
             org.bstats.bukkit.Metrics metrics = new org.bstats.bukkit.Metrics(this, pluginId);
+
+            // Most severe load shedding tier since the previous report
+            metrics.addCustomChart(new org.bstats.charts.SimplePie("load_shedding_tier",
+                    () -> loadSheddingManager.pollWorstTier().name().toLowerCase(java.util.Locale.ROOT)));
         } catch (Exception e) {
             // Don't fail plugin loading if metrics fail
         }
@@ -118,6 +129,26 @@ public final class Vote2Sleep extends JavaPlugin {
                 voteManager.shutdown();
             }
 
+            if (worldStateSnapshot != null) {
+                worldStateSnapshot.shutdown();
+            }
+
+            if (loadSheddingManager != null) {
+                loadSheddingManager.shutdown();
+            }
+
+            if (serverHealthMonitor != null) {
+                serverHealthMonitor.shutdown();
+            }
+
+            if (tickDriver != null) {
+                tickDriver.shutdown();
+            }
+
+            if (eligibilityTracker != null) {
+                eligibilityTracker.shutdown();
+            }
+
             if (dawnAnimationManager != null) {
                 dawnAnimationManager.cleanup();
             }
@@ -138,6 +169,11 @@ public final class Vote2Sleep extends JavaPlugin {
                 updateChecker.stopPeriodicChecking();
             }
 
+            // Anything the managers left scheduled
+            if (platformAdapter != null) {
+                platformAdapter.cancelAll();
+            }
+
             getLogger().info("Vote2Sleep disabled successfully!");
 
         } catch (Exception e) {
@@ -174,13 +210,44 @@ public final class Vote2Sleep extends JavaPlugin {
             this.dawnAnimationManager = new DawnAnimationManager(this);
             getLogger().info("Dawn animation manager initialized");
 
+            // Initialize exemption service (the eligibility tracker reads it)
+            this.exemptionService = new ExemptionService(this);
+            getLogger().info("Exemption service initialized");
+
+            // Initialize eligibility tracker
+            this.eligibilityTracker = new EligibilityTracker(this);
+            getLogger().info("Eligibility tracker initialized");
+
+            // Initialize tick driver (vote deadlines run on it)
+            this.tickDriver = new TickDriver(this);
+            tickDriver.start();
+            getLogger().info("Tick driver started");
+
+            // Initialize server health monitor (samples tick times on the tick driver)
+            this.serverHealthMonitor = new ServerHealthMonitor(this);
+            serverHealthMonitor.start();
+            getLogger().info("Server health monitor started");
+
+            // Initialize load shedding (driven by the health monitor's samples)
+            this.loadSheddingManager = new LoadSheddingManager(this);
+            loadSheddingManager.start();
+            getLogger().info("Load shedding manager started");
+
             // Initialize vote manager
             this.voteManager = new SleepVoteManager(this);
             getLogger().info("Vote manager initialized");
 
+            // Initialize world state snapshot (sampled on the tick driver)
+            this.worldStateSnapshot = new WorldStateSnapshot(this);
+            getLogger().info("World state snapshot initialized");
+
             // Initialize hooks after all managers are created
             hooksManager.initializeHooks();
 
+            // Index online players (covers /reload with players connected)
+            eligibilityTracker.start();
+            worldStateSnapshot.start();
+
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize managers", e);
         }
@@ -221,6 +288,7 @@ public final class Vote2Sleep extends JavaPlugin {
             getServer().getPluginManager().registerEvents(new PlayerConnectionListener(this), this);
             getServer().getPluginManager().registerEvents(new WorldEventListener(this), this);
             getServer().getPluginManager().registerEvents(new WeatherChangeListener(this), this);
+            getServer().getPluginManager().registerEvents(new PlayerGameModeListener(this), this);
 
             getLogger().info("Event listeners registered successfully");
 
@@ -249,6 +317,11 @@ public final class Vote2Sleep extends JavaPlugin {
                 hooksManager.reinitializeHooks();
             }
 
+            // Exemption rules may have changed
+            if (eligibilityTracker != null) {
+                eligibilityTracker.rebuild();
+            }
+
             getLogger().info("Plugin reloaded successfully");
 
         } catch (Exception e) {
@@ -294,6 +367,30 @@ public final class Vote2Sleep extends JavaPlugin {
         return dawnAnimationManager;
     }
 
+    public TickDriver getTickDriver() {
+        return tickDriver;
+    }
+
+    public EligibilityTracker getEligibilityTracker() {
+        return eligibilityTracker;
+    }
+
+    public ExemptionService getExemptionService() {
+        return exemptionService;
+    }
+
+    public WorldStateSnapshot getWorldStateSnapshot() {
+        return worldStateSnapshot;
+    }
+
+    public ServerHealthMonitor getServerHealthMonitor() {
+        return serverHealthMonitor;
+    }
+
+    public LoadSheddingManager getLoadSheddingManager() {
+        return loadSheddingManager;
+    }
+
     public Vote2SleepAPI getApi() {
         return api;
     }
@@ -308,6 +405,12 @@ public final class Vote2Sleep extends JavaPlugin {
                 effectsManager != null &&
                 databaseManager != null &&
                 hooksManager != null &&
-                dawnAnimationManager != null;
+                dawnAnimationManager != null &&
+                eligibilityTracker != null &&
+                exemptionService != null &&
+                worldStateSnapshot != null &&
+                serverHealthMonitor != null &&
+                loadSheddingManager != null &&
+                tickDriver != null;
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.github.k1ritoz.vote2Sleep.api;
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import com.github.k1ritoz.vote2Sleep.data.SleepVote;
 import com.github.k1ritoz.vote2Sleep.data.WorldData;
+import com.github.k1ritoz.vote2Sleep.data.WorldState;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
@@ -91,11 +92,14 @@ public class Vote2SleepAPI {
      * Check if sleeping is currently possible in a world
      */
     public boolean canSleep(World world) {
-        boolean isNight = world.getTime() >= 12542 && world.getTime() <= 23459;
-        boolean isStormy = world.hasStorm() || world.isThundering();
+        return plugin.getWorldStateSnapshot().get(world).canSleep();
+    }
 
-        return (isNight && plugin.getConfigManager().isNightSkipAllowed()) ||
-                (isStormy && plugin.getConfigManager().isStormSkipAllowed());
+    /**
+     * Get the world's state as sampled at the start of the current tick
+     */
+    public WorldState getWorldState(World world) {
+        return plugin.getWorldStateSnapshot().get(world);
     }
 
     /**
@@ -112,31 +116,14 @@ public class Vote2SleepAPI {
      * Get eligible player count for a world (players who can vote)
      */
     public int getEligiblePlayerCount(World world) {
-        return (int) world.getPlayers().stream()
-                .filter(p -> p.getGameMode() != org.bukkit.GameMode.SPECTATOR)
-                .filter(p -> p.getGameMode() != org.bukkit.GameMode.CREATIVE)
-                .filter(p -> !p.hasPermission("vote2sleep.exempt"))
-                .count();
+        return plugin.getEligibilityTracker().getEligibleCount(world);
     }
 
     /**
      * Check if a player is exempt from voting
      */
     public boolean isPlayerExempt(Player player) {
-        // Check game mode exemptions
-        String gameMode = player.getGameMode().name();
-        if (plugin.getConfigManager().getExemptGameModes().contains(gameMode)) {
-            return true;
-        }
-
-        // Check permission exemptions
-        for (String permission : plugin.getConfigManager().getExemptPermissions()) {
-            if (player.hasPermission(permission)) {
-                return true;
-            }
-        }
-
-        return false;
+        return plugin.getExemptionService().isExempt(player);
     }
 
     /**
@@ -1,6 +1,13 @@
 package com.github.k1ritoz.vote2Sleep.commands;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.data.TickHealth;
+import com.github.k1ritoz.vote2Sleep.database.StatisticsStore;
+import com.github.k1ritoz.vote2Sleep.managers.DatabaseManager;
+import com.github.k1ritoz.vote2Sleep.managers.MessageManager;
+import com.github.k1ritoz.vote2Sleep.managers.ServerHealthMonitor;
+import com.github.k1ritoz.vote2Sleep.utils.MessageArgs;
+import com.github.k1ritoz.vote2Sleep.utils.Placeholder;
 import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -12,6 +19,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class SleepCommand implements CommandExecutor, TabCompleter {
@@ -144,17 +153,17 @@ public class SleepCommand implements CommandExecutor, TabCompleter {
 
         player.sendMessage(plugin.getMessageManager().getMessage("status.header"));
         player.sendMessage(plugin.getMessageManager().getMessage("status.world",
-                Map.of("world", world.getName())));
+                MessageArgs.of(Placeholder.WORLD, world.getName())));
         player.sendMessage(plugin.getMessageManager().getMessage("status.current-votes",
-                Map.of("current", String.valueOf(currentVotes), "required", String.valueOf(requiredVotes))));
+                MessageArgs.of(Placeholder.CURRENT, currentVotes).with(Placeholder.REQUIRED, requiredVotes)));
         player.sendMessage(plugin.getMessageManager().getMessage("status.you-voted",
-                Map.of("status", hasVoted ? plugin.getMessageManager().getMessage("status-yes") :
+                MessageArgs.of(Placeholder.STATUS, hasVoted ? plugin.getMessageManager().getMessage("status-yes") :
                         plugin.getMessageManager().getMessage("status-no"))));
         player.sendMessage(plugin.getMessageManager().getMessage("status.can-sleep",
-                Map.of("status", canSleep ? plugin.getMessageManager().getMessage("status-yes") :
+                MessageArgs.of(Placeholder.STATUS, canSleep ? plugin.getMessageManager().getMessage("status-yes") :
                         plugin.getMessageManager().getMessage("status-no"))));
         player.sendMessage(plugin.getMessageManager().getMessage("status.progress",
-                Map.of("progress", String.valueOf(Math.round(progress * 100)))));
+                MessageArgs.of(Placeholder.PROGRESS, Math.round(progress * 100))));
 
         return true;
     }
@@ -178,7 +187,7 @@ public class SleepCommand implements CommandExecutor, TabCompleter {
         } else {
             plugin.getConfigManager().enableWorld(world);
             plugin.getMessageManager().sendMessage(player, "world-enabled",
-                    Map.of("world", world.getName()));
+                    MessageArgs.of(Placeholder.WORLD, world.getName()));
         }
 
         return true;
@@ -205,7 +214,7 @@ public class SleepCommand implements CommandExecutor, TabCompleter {
             // Clear any existing votes
             plugin.getVoteManager().clearVotes(world);
             plugin.getMessageManager().sendMessage(player, "world-disabled",
-                    Map.of("world", world.getName()));
+                    MessageArgs.of(Placeholder.WORLD, world.getName()));
         }
 
         return true;
@@ -224,6 +233,7 @@ public class SleepCommand implements CommandExecutor, TabCompleter {
 
         plugin.getConfigManager().reload();
         plugin.getMessageManager().reload();
+        plugin.getEligibilityTracker().rebuild();
 
         plugin.getVoteManager().synchronizeBossBarSettings();
 
@@ -240,25 +250,85 @@ public class SleepCommand implements CommandExecutor, TabCompleter {
         // Display plugin statistics
         sender.sendMessage(plugin.getMessageManager().getMessage("stats.header"));
         sender.sendMessage(plugin.getMessageManager().getMessage("stats.plugin-version",
-                Map.of("version", plugin.getDescription().getVersion())));
+                MessageArgs.of(Placeholder.VERSION, plugin.getDescription().getVersion())));
         sender.sendMessage(plugin.getMessageManager().getMessage("stats.platform",
-                Map.of("platform", plugin.getPlatformAdapter().getPlatformName())));
+                MessageArgs.of(Placeholder.PLATFORM, plugin.getPlatformAdapter().getPlatformName())));
         sender.sendMessage(plugin.getMessageManager().getMessage("stats.enabled-worlds",
-                Map.of("count", String.valueOf(plugin.getConfigManager().getEnabledWorlds().size()))));
+                MessageArgs.of(Placeholder.COUNT, plugin.getConfigManager().getEnabledWorlds().size())));
 
-        double[] tps = plugin.getPlatformAdapter().getTPS();
+        // Players see the TPS of their own region on Folia
+        ServerHealthMonitor monitor = plugin.getServerHealthMonitor();
+        TickHealth health = monitor.getHealth();
+        double tps = sender instanceof Player ? monitor.getTps(((Player) sender).getLocation()) : health.getTps();
         sender.sendMessage(plugin.getMessageManager().getMessage("stats.server-tps",
-                Map.of("tps", String.format("%.2f", tps[0]))));
+                MessageArgs.of(Placeholder.TPS, String.format("%.2f", tps))));
+        sender.sendMessage(plugin.getMessageManager().getMessage("stats.server-mspt",
+                MessageArgs.of(Placeholder.MSPT, String.format("%.1f", health.getMsptP50()))
+                        .with(Placeholder.MSPT_P95, String.format("%.1f", health.getMsptP95()))));
+        sender.sendMessage(plugin.getMessageManager().getMessage("stats.load-tier",
+                MessageArgs.of(Placeholder.STATUS, plugin.getLoadSheddingManager().getTier().name())));
 
         String dbStatus = plugin.getConfigManager().isDatabaseEnabled() ?
                 plugin.getMessageManager().getMessage("status-yes") :
                 plugin.getMessageManager().getMessage("status-no");
         sender.sendMessage(plugin.getMessageManager().getMessage("stats.database-status",
-                Map.of("status", dbStatus)));
+                MessageArgs.of(Placeholder.STATUS, dbStatus)));
 
+        sendStorageStats(sender);
         return true;
     }
 
+    /**
+     * Store queries may block on I/O, so they run async and their lines follow the rest of the stats
+     */
+    private void sendStorageStats(CommandSender sender) {
+        DatabaseManager database = plugin.getDatabaseManager();
+        StatisticsStore store = database != null ? database.getStore() : null;
+        if (store == null) {
+            return;
+        }
+
+        MessageManager messages = plugin.getMessageManager();
+        sender.sendMessage(messages.getMessage("stats.database-queue",
+                MessageArgs.of(Placeholder.COUNT, database.getPendingEventCount())
+                        .with(Placeholder.DROPPED, database.getDroppedEventCount())));
+
+        Player player = sender instanceof Player ? (Player) sender : null;
+        World world = player != null ? player.getWorld() : null;
+        UUID worldUuid = world != null ? world.getUID() : null;
+        String worldName = world != null ? world.getName() : null;
+        UUID playerUuid = player != null ? player.getUniqueId() : null;
+
+        plugin.getPlatformAdapter().runTaskAsync(() -> {
+            List<String> lines = new ArrayList<>();
+            try {
+                lines.add(messages.getMessage("stats.total-skips",
+                        MessageArgs.of(Placeholder.SKIPS, store.getTotalSkipCount())));
+                for (Map.Entry<String, Long> entry : new TreeMap<>(store.getSkipCountsByType()).entrySet()) {
+                    lines.add(messages.getMessage("stats.skips-by-type",
+                            MessageArgs.of(Placeholder.TYPE, entry.getKey()).with(Placeholder.SKIPS, entry.getValue())));
+                }
+
+                if (playerUuid != null) {
+                    lines.add(messages.getMessage("stats.world-skips",
+                            MessageArgs.of(Placeholder.WORLD, worldName).with(Placeholder.SKIPS, store.getSkipCount(worldUuid))));
+                    lines.add(messages.getMessage("stats.your-votes",
+                            MessageArgs.of(Placeholder.COUNT, store.getVoteCount(playerUuid))));
+                }
+            } catch (Exception e) {
+                // The store may also have been closed by a reload while the query ran
+                plugin.getLogger().warning("Could not load statistics: " + e.getMessage());
+                return;
+            }
+
+            if (player != null) {
+                plugin.getPlatformAdapter().runTaskLaterForPlayer(player, p -> lines.forEach(p::sendMessage), 1L);
+            } else {
+                plugin.getPlatformAdapter().runTaskLater(() -> lines.forEach(sender::sendMessage), 1L);
+            }
+        });
+    }
+
     private boolean handleCancelCommand(CommandSender sender) {
         if (!sender.hasPermission("vote2sleep.cancel")) {
             plugin.getMessageManager().sendMessage((Player) sender, "no-permission");
@@ -275,7 +345,7 @@ public class SleepCommand implements CommandExecutor, TabCompleter {
 
         plugin.getVoteManager().clearVotes(world);
         plugin.getMessageManager().sendWorldMessage(world, "votes-cancelled-by-admin",
-                Map.of("admin", player.getName()));
+                MessageArgs.of(Placeholder.ADMIN, player.getName()));
 
         return true;
     }
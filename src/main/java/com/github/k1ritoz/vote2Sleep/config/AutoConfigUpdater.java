@@ -10,6 +10,16 @@ import java.util.*;
 
 public class AutoConfigUpdater {
 
+    // Settings that moved in newer config versions: old key -> new key
+    private static final Map<String, String> RENAMED_KEYS = Map.of(
+            "advanced.mysql.host", "advanced.database.host",
+            "advanced.mysql.port", "advanced.database.port",
+            "advanced.mysql.database", "advanced.database.name",
+            "advanced.mysql.username", "advanced.database.username",
+            "advanced.mysql.password", "advanced.database.password",
+            "advanced.mysql.ssl", "advanced.database.ssl"
+    );
+
     private final Vote2Sleep plugin;
 
     public AutoConfigUpdater(Vote2Sleep plugin) {
@@ -277,6 +287,11 @@ public class AutoConfigUpdater {
                     if (plugin.getConfigManager().isDebugMode()) {
                         plugin.getLogger().info("Preserved user setting: " + key + " = " + userValue);
                     }
+                } else if (RENAMED_KEYS.containsKey(key) && !userConfig.contains(RENAMED_KEYS.get(key))) {
+                    // Carry the old value over to the setting's new location
+                    String newKey = RENAMED_KEYS.get(key);
+                    cleanConfig.set(newKey, userConfig.get(key));
+                    plugin.getLogger().info("Migrated setting " + key + " to " + newKey);
                 }
             }
         }
@@ -0,0 +1,394 @@
+package com.github.k1ritoz.vote2Sleep.config;
+
+import com.github.k1ritoz.vote2Sleep.data.LoadThresholds;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Immutable, pre-parsed view of config.yml and worlds.yml.
+ * Built once per load/reload and published by {@link ConfigurationManager}.
+ */
+public final class ConfigSnapshot {
+
+    /**
+     * Settings for a single world
+     */
+    public static final class WorldSettings {
+        private final boolean enabled;
+        private final double votePercentage;
+
+        WorldSettings(boolean enabled, double votePercentage) {
+            this.enabled = enabled;
+            this.votePercentage = votePercentage;
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public double getVotePercentage() { return votePercentage; }
+    }
+
+    // General settings
+    private final String language;
+    private final double votePercentage;
+    private final int minimumPlayers;
+    private final int maximumPlayers;
+    private final int skipDelaySeconds;
+    private final int voteTimeoutSeconds;
+    private final boolean stormSkipAllowed;
+    private final boolean nightSkipAllowed;
+    private final boolean resetStatistics;
+    private final boolean healPlayers;
+    private final boolean feedPlayers;
+    private final boolean clearWeather;
+    private final boolean bedInteraction;
+
+    // Display settings
+    private final boolean bossBarEnabled;
+    private final String bossBarColorName;
+    private final String bossBarStyleName;
+    private final BarColor bossBarColor;
+    private final BarStyle bossBarStyle;
+    private final boolean titlesEnabled;
+    private final int titleFadeIn;
+    private final int titleStay;
+    private final int titleFadeOut;
+    private final boolean soundsEnabled;
+    private final String voteSoundName;
+    private final String skipSoundName;
+    private final Sound voteSound;
+    private final Sound skipSound;
+    private final boolean actionBarEnabled;
+    private final int displayRefreshInterval;
+    private final boolean voteDigestEnabled;
+    private final int voteDigestWindow;
+    private final int voteDigestMaxNames;
+    private final int voteDigestPlayerCooldown;
+
+    // Effects settings
+    private final boolean lightningOnSkip;
+    private final double lightningChance;
+    private final boolean particleEffects;
+
+    // Dawn animation settings
+    private final boolean dawnEnabled;
+    private final int dawnDuration;
+    private final int dawnSteps;
+    private final boolean dawnTitleEnabled;
+    private final boolean dawnBossBarEnabled;
+    private final String dawnBossBarColorName;
+    private final String dawnBossBarStyleName;
+    private final BarColor dawnBossBarColor;
+    private final BarStyle dawnBossBarStyle;
+    private final boolean dawnParticlesEnabled;
+    private final String dawnParticleName;
+    private final Particle dawnParticle;
+    private final String dawnSoundName;
+    private final String dawnFinalSoundName;
+    private final Sound dawnSound;
+    private final Sound dawnFinalSound;
+
+    // Advanced settings
+    private final boolean databaseEnabled;
+    private final String databaseType;
+    private final String databaseHost;
+    private final int databasePort;
+    private final String databaseName;
+    private final String databaseUsername;
+    private final String databasePassword;
+    private final boolean databaseSsl;
+    private final int databasePoolSize;
+    private final int databaseIdleTimeout;
+    private final int databaseConnectionTimeout;
+    private final boolean updateCheck;
+    private final boolean debugMode;
+    private final boolean metrics;
+    private final int skipSpreadTicks;
+    private final boolean loadSheddingEnabled;
+    private final LoadThresholds loadSheddingMsptThresholds;
+    private final LoadThresholds loadSheddingLagThresholds;
+    private final int loadSheddingRecoverySeconds;
+    private final List<String> exemptGameModeNames;
+    private final Set<GameMode> exemptGameModes;
+    private final List<String> exemptPermissions;
+
+    // World settings
+    private final WorldSettings defaultWorldSettings;
+    private final Map<UUID, WorldSettings> worldsById;
+    private final Map<String, WorldSettings> worldsByName;
+    private final Set<String> configuredWorlds;
+
+    ConfigSnapshot(FileConfiguration config, FileConfiguration worldConfig, Logger logger) {
+        this.language = config.getString("settings.language");
+        this.votePercentage = config.getDouble("settings.vote-percentage");
+        this.minimumPlayers = config.getInt("settings.minimum-players");
+        this.maximumPlayers = config.getInt("settings.maximum-players");
+        this.skipDelaySeconds = config.getInt("settings.skip-delay-seconds");
+        this.voteTimeoutSeconds = config.getInt("settings.vote-timeout-seconds");
+        this.stormSkipAllowed = config.getBoolean("settings.allow-storm-skip");
+        this.nightSkipAllowed = config.getBoolean("settings.allow-night-skip");
+        this.resetStatistics = config.getBoolean("settings.reset-statistics");
+        this.healPlayers = config.getBoolean("settings.heal-players");
+        this.feedPlayers = config.getBoolean("settings.feed-players");
+        this.clearWeather = config.getBoolean("settings.clear-weather");
+        this.bedInteraction = config.getBoolean("settings.bed-interaction");
+
+        this.bossBarEnabled = config.getBoolean("display.boss-bar.enabled");
+        this.bossBarColorName = config.getString("display.boss-bar.color");
+        this.bossBarStyleName = config.getString("display.boss-bar.style");
+        this.bossBarColor = parseBarColor(bossBarColorName, BarColor.BLUE, logger);
+        this.bossBarStyle = parseBarStyle(bossBarStyleName, BarStyle.SOLID, logger);
+        this.titlesEnabled = config.getBoolean("display.titles.enabled");
+        this.titleFadeIn = config.getInt("display.titles.fade-in");
+        this.titleStay = config.getInt("display.titles.stay");
+        this.titleFadeOut = config.getInt("display.titles.fade-out");
+        this.soundsEnabled = config.getBoolean("display.sounds.enabled");
+        this.voteSoundName = config.getString("display.sounds.vote-sound");
+        this.skipSoundName = config.getString("display.sounds.skip-sound");
+        this.voteSound = parseSound(voteSoundName, Sound.ENTITY_EXPERIENCE_ORB_PICKUP, logger);
+        this.skipSound = parseSound(skipSoundName, Sound.ENTITY_EXPERIENCE_ORB_PICKUP, logger);
+        this.actionBarEnabled = config.getBoolean("display.actionbar.enabled");
+        this.displayRefreshInterval = Math.max(1, config.getInt("display.refresh-interval-ticks", 1));
+        this.voteDigestEnabled = config.getBoolean("display.vote-digest.enabled", false);
+        this.voteDigestWindow = Math.max(1, config.getInt("display.vote-digest.window-ticks", 40));
+        this.voteDigestMaxNames = Math.max(1, config.getInt("display.vote-digest.max-names", 3));
+        this.voteDigestPlayerCooldown = Math.max(0, config.getInt("display.vote-digest.player-cooldown-ticks", 40));
+
+        this.lightningOnSkip = config.getBoolean("effects.lightning-on-skip");
+        this.lightningChance = config.getDouble("effects.lightning-chance");
+        this.particleEffects = config.getBoolean("effects.particle-effects");
+
+        this.dawnEnabled = config.getBoolean("animation.dawn.enabled");
+        this.dawnDuration = config.getInt("animation.dawn.duration-seconds");
+        this.dawnSteps = config.getInt("animation.dawn.animation-steps");
+        this.dawnTitleEnabled = config.getBoolean("animation.dawn.title.enabled");
+        this.dawnBossBarEnabled = config.getBoolean("animation.dawn.boss-bar.enabled");
+        this.dawnBossBarColorName = config.getString("animation.dawn.boss-bar.color");
+        this.dawnBossBarStyleName = config.getString("animation.dawn.boss-bar.style");
+        this.dawnBossBarColor = parseBarColor(dawnBossBarColorName, BarColor.YELLOW, logger);
+        this.dawnBossBarStyle = parseBarStyle(dawnBossBarStyleName, BarStyle.SOLID, logger);
+        this.dawnParticlesEnabled = config.getBoolean("animation.dawn.particles.enabled");
+        this.dawnParticleName = config.getString("animation.dawn.particles.type");
+        this.dawnParticle = parseParticle(dawnParticleName, Particle.ENCHANT, logger);
+        this.dawnSoundName = config.getString("animation.dawn.sounds.animation-sound");
+        this.dawnFinalSoundName = config.getString("animation.dawn.sounds.final-sound");
+        this.dawnSound = parseSound(dawnSoundName, Sound.BLOCK_AMETHYST_BLOCK_CHIME, logger);
+        this.dawnFinalSound = parseSound(dawnFinalSoundName, Sound.BLOCK_AMETHYST_BLOCK_CHIME, logger);
+
+        this.databaseEnabled = config.getBoolean("advanced.database.enabled");
+        this.databaseType = config.getString("advanced.database.type");
+        // Connection settings used to live under advanced.mysql
+        this.databaseHost = config.getString("advanced.database.host", config.getString("advanced.mysql.host", "localhost"));
+        this.databasePort = config.getInt("advanced.database.port", config.getInt("advanced.mysql.port", 3306));
+        this.databaseName = config.getString("advanced.database.name", config.getString("advanced.mysql.database", "vote2sleep"));
+        this.databaseUsername = config.getString("advanced.database.username", config.getString("advanced.mysql.username", "root"));
+        this.databasePassword = config.getString("advanced.database.password", config.getString("advanced.mysql.password", ""));
+        this.databaseSsl = config.getBoolean("advanced.database.ssl", config.getBoolean("advanced.mysql.ssl", false));
+        this.databasePoolSize = Math.max(1, config.getInt("advanced.database.pool.size", 4));
+        this.databaseIdleTimeout = Math.max(1, config.getInt("advanced.database.pool.idle-timeout-seconds", 300));
+        this.databaseConnectionTimeout = Math.max(1, config.getInt("advanced.database.pool.connection-timeout-seconds", 10));
+        this.updateCheck = config.getBoolean("advanced.update-checker");
+        this.debugMode = config.getBoolean("advanced.debug-mode");
+        this.metrics = config.getBoolean("advanced.metrics");
+        this.skipSpreadTicks = Math.max(1, config.getInt("advanced.skip-spread-ticks", 5));
+        this.loadSheddingEnabled = config.getBoolean("advanced.load-shedding.enabled", true);
+        double loadSheddingHysteresis = config.getDouble("advanced.load-shedding.hysteresis-mspt", 5.0);
+        this.loadSheddingMsptThresholds = new LoadThresholds(
+                Math.max(1.0, config.getDouble("advanced.load-shedding.reduced-mspt", 40.0)),
+                config.getDouble("advanced.load-shedding.minimal-mspt", 45.0),
+                config.getDouble("advanced.load-shedding.critical-mspt", 50.0),
+                loadSheddingHysteresis);
+        this.loadSheddingLagThresholds = new LoadThresholds(
+                Math.max(1.0, config.getDouble("advanced.load-shedding.reduced-lag-ms", 40.0)),
+                config.getDouble("advanced.load-shedding.minimal-lag-ms", 45.0),
+                config.getDouble("advanced.load-shedding.critical-lag-ms", 50.0),
+                loadSheddingHysteresis);
+        this.loadSheddingRecoverySeconds = Math.max(1, config.getInt("advanced.load-shedding.recovery-seconds", 10));
+        this.exemptGameModeNames = List.copyOf(config.getStringList("advanced.exempt-gamemodes"));
+        this.exemptGameModes = parseGameModes(exemptGameModeNames);
+        this.exemptPermissions = List.copyOf(config.getStringList("advanced.exempt-permissions"));
+
+        // World table - keyed by UUID for loaded worlds, by name for worlds loaded later
+        this.defaultWorldSettings = new WorldSettings(false, votePercentage);
+        Map<String, WorldSettings> byName = new HashMap<>();
+        ConfigurationSection worldsSection = worldConfig.getConfigurationSection("worlds");
+        if (worldsSection != null) {
+            for (String worldName : worldsSection.getKeys(false)) {
+                byName.put(worldName, new WorldSettings(
+                        worldsSection.getBoolean(worldName + ".enabled", false),
+                        worldsSection.getDouble(worldName + ".vote-percentage", votePercentage)));
+            }
+        }
+
+        Map<UUID, WorldSettings> byId = new HashMap<>();
+        for (World world : Bukkit.getWorlds()) {
+            WorldSettings settings = byName.get(world.getName());
+            if (settings != null) {
+                byId.put(world.getUID(), settings);
+            }
+        }
+
+        this.worldsByName = Map.copyOf(byName);
+        this.worldsById = Map.copyOf(byId);
+        this.configuredWorlds = Set.copyOf(byName.keySet());
+    }
+
+    /**
+     * Resolves the settings for a world without touching the configuration tree
+     */
+    public WorldSettings getWorld(World world) {
+        WorldSettings settings = worldsById.get(world.getUID());
+        if (settings != null) {
+            return settings;
+        }
+
+        // World loaded after this snapshot was built
+        return worldsByName.getOrDefault(world.getName(), defaultWorldSettings);
+    }
+
+    public boolean isExemptGameMode(GameMode gameMode) {
+        return exemptGameModes.contains(gameMode);
+    }
+
+    private static BarColor parseBarColor(String name, BarColor fallback, Logger logger) {
+        try {
+            return BarColor.valueOf(name);
+        } catch (Exception e) {
+            logger.warning("Invalid boss bar color '" + name + "', using default " + fallback);
+            return fallback;
+        }
+    }
+
+    private static BarStyle parseBarStyle(String name, BarStyle fallback, Logger logger) {
+        try {
+            return BarStyle.valueOf(name);
+        } catch (Exception e) {
+            logger.warning("Invalid boss bar style '" + name + "', using default " + fallback);
+            return fallback;
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Sound parseSound(String name, Sound fallback, Logger logger) {
+        try {
+            return Sound.valueOf(name);
+        } catch (Exception e) {
+            logger.warning("Invalid sound name: " + name);
+            return fallback;
+        }
+    }
+
+    private static Particle parseParticle(String name, Particle fallback, Logger logger) {
+        try {
+            return Particle.valueOf(name.toUpperCase());
+        } catch (Exception e) {
+            logger.warning("Invalid particle type '" + name + "', using default " + fallback);
+            return fallback;
+        }
+    }
+
+    private static Set<GameMode> parseGameModes(List<String> names) {
+        Set<GameMode> gameModes = EnumSet.noneOf(GameMode.class);
+        for (String name : names) {
+            try {
+                gameModes.add(GameMode.valueOf(name));
+            } catch (IllegalArgumentException ignored) {
+                // Unknown names never matched before either
+            }
+        }
+        return Collections.unmodifiableSet(gameModes);
+    }
+
+    // General getters
+    public String getLanguage() { return language; }
+    public double getVotePercentage() { return votePercentage; }
+    public int getMinimumPlayers() { return minimumPlayers; }
+    public int getMaximumPlayers() { return maximumPlayers; }
+    public int getSkipDelaySeconds() { return skipDelaySeconds; }
+    public int getVoteTimeoutSeconds() { return voteTimeoutSeconds; }
+    public boolean isStormSkipAllowed() { return stormSkipAllowed; }
+    public boolean isNightSkipAllowed() { return nightSkipAllowed; }
+    public boolean shouldResetStatistics() { return resetStatistics; }
+    public boolean shouldHealPlayers() { return healPlayers; }
+    public boolean shouldFeedPlayers() { return feedPlayers; }
+    public boolean shouldClearWeather() { return clearWeather; }
+    public boolean isBedInteractionEnabled() { return bedInteraction; }
+
+    // Display getters
+    public boolean isBossBarEnabled() { return bossBarEnabled; }
+    public String getBossBarColorName() { return bossBarColorName; }
+    public String getBossBarStyleName() { return bossBarStyleName; }
+    public BarColor getBossBarColor() { return bossBarColor; }
+    public BarStyle getBossBarStyle() { return bossBarStyle; }
+    public boolean areTitlesEnabled() { return titlesEnabled; }
+    public int getTitleFadeIn() { return titleFadeIn; }
+    public int getTitleStay() { return titleStay; }
+    public int getTitleFadeOut() { return titleFadeOut; }
+    public boolean areSoundsEnabled() { return soundsEnabled; }
+    public String getVoteSoundName() { return voteSoundName; }
+    public String getSkipSoundName() { return skipSoundName; }
+    public Sound getVoteSound() { return voteSound; }
+    public Sound getSkipSound() { return skipSound; }
+    public boolean isActionBarEnabled() { return actionBarEnabled; }
+    public int getDisplayRefreshInterval() { return displayRefreshInterval; }
+    public boolean isVoteDigestEnabled() { return voteDigestEnabled; }
+    public int getVoteDigestWindow() { return voteDigestWindow; }
+    public int getVoteDigestMaxNames() { return voteDigestMaxNames; }
+    public int getVoteDigestPlayerCooldown() { return voteDigestPlayerCooldown; }
+
+    // Effects getters
+    public boolean isLightningOnSkipEnabled() { return lightningOnSkip; }
+    public double getLightningChance() { return lightningChance; }
+    public boolean areParticleEffectsEnabled() { return particleEffects; }
+
+    // Dawn animation getters
+    public boolean isDawnAnimationEnabled() { return dawnEnabled; }
+    public int getDawnAnimationDuration() { return dawnDuration; }
+    public int getDawnAnimationSteps() { return dawnSteps; }
+    public boolean isDawnTitleEnabled() { return dawnTitleEnabled; }
+    public boolean isDawnBossBarEnabled() { return dawnBossBarEnabled; }
+    public String getDawnBossBarColorName() { return dawnBossBarColorName; }
+    public String getDawnBossBarStyleName() { return dawnBossBarStyleName; }
+    public BarColor getDawnBossBarColor() { return dawnBossBarColor; }
+    public BarStyle getDawnBossBarStyle() { return dawnBossBarStyle; }
+    public boolean isDawnParticlesEnabled() { return dawnParticlesEnabled; }
+    public String getDawnParticleName() { return dawnParticleName; }
+    public Particle getDawnParticle() { return dawnParticle; }
+    public String getDawnSoundName() { return dawnSoundName; }
+    public String getDawnFinalSoundName() { return dawnFinalSoundName; }
+    public Sound getDawnSound() { return dawnSound; }
+    public Sound getDawnFinalSound() { return dawnFinalSound; }
+
+    // Advanced getters
+    public boolean isDatabaseEnabled() { return databaseEnabled; }
+    public String getDatabaseType() { return databaseType; }
+    public String getDatabaseHost() { return databaseHost; }
+    public int getDatabasePort() { return databasePort; }
+    public String getDatabaseName() { return databaseName; }
+    public String getDatabaseUsername() { return databaseUsername; }
+    public String getDatabasePassword() { return databasePassword; }
+    public boolean isDatabaseSsl() { return databaseSsl; }
+    public int getDatabasePoolSize() { return databasePoolSize; }
+    public int getDatabaseIdleTimeout() { return databaseIdleTimeout; }
+    public int getDatabaseConnectionTimeout() { return databaseConnectionTimeout; }
+    public boolean isUpdateCheckEnabled() { return updateCheck; }
+    public boolean isDebugMode() { return debugMode; }
+    public boolean isMetricsEnabled() { return metrics; }
+    public int getSkipSpreadTicks() { return skipSpreadTicks; }
+    public boolean isLoadSheddingEnabled() { return loadSheddingEnabled; }
+    public LoadThresholds getLoadSheddingMsptThresholds() { return loadSheddingMsptThresholds; }
+    public LoadThresholds getLoadSheddingLagThresholds() { return loadSheddingLagThresholds; }
+    public int getLoadSheddingRecoverySeconds() { return loadSheddingRecoverySeconds; }
+    public List<String> getExemptGameModeNames() { return exemptGameModeNames; }
+    public Set<GameMode> getExemptGameModes() { return exemptGameModes; }
+    public List<String> getExemptPermissions() { return exemptPermissions; }
+    public Set<String> getConfiguredWorlds() { return configuredWorlds; }
+}
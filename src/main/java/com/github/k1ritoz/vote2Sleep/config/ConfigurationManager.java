@@ -2,7 +2,6 @@ package com.github.k1ritoz.vote2Sleep.config;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import org.bukkit.World;
-import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -20,6 +19,9 @@ public class ConfigurationManager {
     private File worldsFile;
     private AutoConfigUpdater autoUpdater;
 
+    // Hot paths read this instead of walking the YAML tree
+    private volatile ConfigSnapshot snapshot;
+
     public ConfigurationManager(Vote2Sleep plugin) {
         this.plugin = plugin;
         this.autoUpdater = new AutoConfigUpdater(plugin);
@@ -34,6 +36,7 @@ public class ConfigurationManager {
         // Reload after update
         plugin.reloadConfig();
         this.config = plugin.getConfig();
+        publishSnapshot();
     }
 
     public void loadConfigurations() {
@@ -55,6 +58,22 @@ public class ConfigurationManager {
 
         // Set default if not exist (this won't override existing values)
         setDefaults();
+
+        publishSnapshot();
+    }
+
+    /**
+     * Rebuilds the settings snapshot and swaps it in atomically
+     */
+    public void publishSnapshot() {
+        this.snapshot = new ConfigSnapshot(config, worldConfig, plugin.getLogger());
+    }
+
+    /**
+     * Current immutable settings snapshot
+     */
+    public ConfigSnapshot getSettings() {
+        return snapshot;
     }
 
     private void setDefaults() {
@@ -85,6 +104,11 @@ public class ConfigurationManager {
         if (!config.contains("display.sounds.vote-sound")) config.set("display.sounds.vote-sound", "BLOCK_NOTE_BLOCK_CHIME");
         if (!config.contains("display.sounds.skip-sound")) config.set("display.sounds.skip-sound", "ENTITY_EXPERIENCE_ORB_PICKUP");
         if (!config.contains("display.actionbar.enabled")) config.set("display.actionbar.enabled", true);
+        if (!config.contains("display.refresh-interval-ticks")) config.set("display.refresh-interval-ticks", 1);
+        if (!config.contains("display.vote-digest.enabled")) config.set("display.vote-digest.enabled", false);
+        if (!config.contains("display.vote-digest.window-ticks")) config.set("display.vote-digest.window-ticks", 40);
+        if (!config.contains("display.vote-digest.max-names")) config.set("display.vote-digest.max-names", 3);
+        if (!config.contains("display.vote-digest.player-cooldown-ticks")) config.set("display.vote-digest.player-cooldown-ticks", 40);
 
         // Effects settings
         if (!config.contains("effects.lightning-on-skip")) config.set("effects.lightning-on-skip", false);
@@ -107,9 +131,19 @@ public class ConfigurationManager {
         // Advanced settings
         if (!config.contains("advanced.database.enabled")) config.set("advanced.database.enabled", false);
         if (!config.contains("advanced.database.type")) config.set("advanced.database.type", "SQLITE");
+        if (!config.contains("advanced.database.pool.size")) config.set("advanced.database.pool.size", 4);
+        if (!config.contains("advanced.database.pool.idle-timeout-seconds")) config.set("advanced.database.pool.idle-timeout-seconds", 300);
+        if (!config.contains("advanced.database.pool.connection-timeout-seconds")) config.set("advanced.database.pool.connection-timeout-seconds", 10);
         if (!config.contains("advanced.update-checker")) config.set("advanced.update-checker", true);
         if (!config.contains("advanced.debug-mode")) config.set("advanced.debug-mode", false);
         if (!config.contains("advanced.metrics")) config.set("advanced.metrics", true);
+        if (!config.contains("advanced.skip-spread-ticks")) config.set("advanced.skip-spread-ticks", 5);
+        if (!config.contains("advanced.load-shedding.enabled")) config.set("advanced.load-shedding.enabled", true);
+        if (!config.contains("advanced.load-shedding.reduced-mspt")) config.set("advanced.load-shedding.reduced-mspt", 40.0);
+        if (!config.contains("advanced.load-shedding.minimal-mspt")) config.set("advanced.load-shedding.minimal-mspt", 45.0);
+        if (!config.contains("advanced.load-shedding.critical-mspt")) config.set("advanced.load-shedding.critical-mspt", 50.0);
+        if (!config.contains("advanced.load-shedding.hysteresis-mspt")) config.set("advanced.load-shedding.hysteresis-mspt", 5.0);
+        if (!config.contains("advanced.load-shedding.recovery-seconds")) config.set("advanced.load-shedding.recovery-seconds", 10);
         if (!config.contains("advanced.exempt-gamemodes")) config.set("advanced.exempt-gamemodes", Arrays.asList("SPECTATOR", "CREATIVE"));
         if (!config.contains("advanced.exempt-permissions")) config.set("advanced.exempt-permissions", Arrays.asList("vote2sleep.exempt"));
 
@@ -119,90 +153,102 @@ public class ConfigurationManager {
 
     // World Management
     public boolean isWorldEnabled(World world) {
-        return worldConfig.getBoolean("worlds." + world.getName() + ".enabled", false);
+        return snapshot.getWorld(world).isEnabled();
     }
 
     public void enableWorld(World world) {
         worldConfig.set("worlds." + world.getName() + ".enabled", true);
         saveWorldsConfig();
+        publishSnapshot();
     }
 
     public void disableWorld(World world) {
         worldConfig.set("worlds." + world.getName() + ".enabled", false);
         saveWorldsConfig();
+        publishSnapshot();
     }
 
     public Set<String> getEnabledWorlds() {
-        ConfigurationSection worldsSection = worldConfig.getConfigurationSection("worlds");
-        if (worldsSection == null) return Set.of();
-
-        return worldsSection.getKeys(false);
+        return snapshot.getConfiguredWorlds();
     }
 
     // World-specific settings
     public double getVotePercentage(World world) {
-        return worldConfig.getDouble("worlds." + world.getName() + ".vote-percentage",
-                config.getDouble("settings.vote-percentage"));
+        return snapshot.getWorld(world).getVotePercentage();
     }
 
     public void setVotePercentage(World world, double percentage) {
         worldConfig.set("worlds." + world.getName() + ".vote-percentage", percentage);
         saveWorldsConfig();
+        publishSnapshot();
     }
 
     // General getters
-    public String getLanguage() { return config.getString("settings.language"); }
-    public int getMinimumPlayers() { return config.getInt("settings.minimum-players"); }
-    public int getMaximumPlayers() { return config.getInt("settings.maximum-players"); }
-    public int getSkipDelaySeconds() { return config.getInt("settings.skip-delay-seconds"); }
-    public int getVoteTimeoutSeconds() { return config.getInt("settings.vote-timeout-seconds"); }
-    public boolean isStormSkipAllowed() { return config.getBoolean("settings.allow-storm-skip"); }
-    public boolean isNightSkipAllowed() { return config.getBoolean("settings.allow-night-skip"); }
-    public boolean shouldResetStatistics() { return config.getBoolean("settings.reset-statistics"); }
-    public boolean shouldHealPlayers() { return config.getBoolean("settings.heal-players"); }
-    public boolean shouldFeedPlayers() { return config.getBoolean("settings.feed-players"); }
-    public boolean shouldClearWeather() { return config.getBoolean("settings.clear-weather"); }
-    public boolean isBedInteractionEnabled() { return config.getBoolean("settings.bed-interaction"); }
+    public String getLanguage() { return snapshot.getLanguage(); }
+    public int getMinimumPlayers() { return snapshot.getMinimumPlayers(); }
+    public int getMaximumPlayers() { return snapshot.getMaximumPlayers(); }
+    public int getSkipDelaySeconds() { return snapshot.getSkipDelaySeconds(); }
+    public int getVoteTimeoutSeconds() { return snapshot.getVoteTimeoutSeconds(); }
+    public boolean isStormSkipAllowed() { return snapshot.isStormSkipAllowed(); }
+    public boolean isNightSkipAllowed() { return snapshot.isNightSkipAllowed(); }
+    public boolean shouldResetStatistics() { return snapshot.shouldResetStatistics(); }
+    public boolean shouldHealPlayers() { return snapshot.shouldHealPlayers(); }
+    public boolean shouldFeedPlayers() { return snapshot.shouldFeedPlayers(); }
+    public boolean shouldClearWeather() { return snapshot.shouldClearWeather(); }
+    public boolean isBedInteractionEnabled() { return snapshot.isBedInteractionEnabled(); }
 
     // Display settings
-    public boolean isBossBarEnabled() { return config.getBoolean("display.boss-bar.enabled"); }
-    public String getBossBarColor() { return config.getString("display.boss-bar.color"); }
-    public String getBossBarStyle() { return config.getString("display.boss-bar.style"); }
-    public boolean areTitlesEnabled() { return config.getBoolean("display.titles.enabled"); }
-    public int getTitleFadeIn() { return config.getInt("display.titles.fade-in"); }
-    public int getTitleStay() { return config.getInt("display.titles.stay"); }
-    public int getTitleFadeOut() { return config.getInt("display.titles.fade-out"); }
-    public boolean areSoundsEnabled() { return config.getBoolean("display.sounds.enabled"); }
-    public String getVoteSound() { return config.getString("display.sounds.vote-sound"); }
-    public String getSkipSound() { return config.getString("display.sounds.skip-sound"); }
-    public boolean isActionBarEnabled() { return config.getBoolean("display.actionbar.enabled"); }
+    public boolean isBossBarEnabled() { return snapshot.isBossBarEnabled(); }
+    public String getBossBarColor() { return snapshot.getBossBarColorName(); }
+    public String getBossBarStyle() { return snapshot.getBossBarStyleName(); }
+    public boolean areTitlesEnabled() { return snapshot.areTitlesEnabled(); }
+    public int getTitleFadeIn() { return snapshot.getTitleFadeIn(); }
+    public int getTitleStay() { return snapshot.getTitleStay(); }
+    public int getTitleFadeOut() { return snapshot.getTitleFadeOut(); }
+    public boolean areSoundsEnabled() { return snapshot.areSoundsEnabled(); }
+    public String getVoteSound() { return snapshot.getVoteSoundName(); }
+    public String getSkipSound() { return snapshot.getSkipSoundName(); }
+    public boolean isActionBarEnabled() { return snapshot.isActionBarEnabled(); }
+    public int getDisplayRefreshInterval() { return snapshot.getDisplayRefreshInterval(); }
+    public boolean isVoteDigestEnabled() { return snapshot.isVoteDigestEnabled(); }
 
     // Effects settings
-    public boolean isLightningOnSkipEnabled() { return config.getBoolean("effects.lightning-on-skip"); }
-    public double getLightningChance() { return config.getDouble("effects.lightning-chance"); }
-    public boolean areParticleEffectsEnabled() { return config.getBoolean("effects.particle-effects"); }
+    public boolean isLightningOnSkipEnabled() { return snapshot.isLightningOnSkipEnabled(); }
+    public double getLightningChance() { return snapshot.getLightningChance(); }
+    public boolean areParticleEffectsEnabled() { return snapshot.areParticleEffectsEnabled(); }
 
     // Dawn Animation settings
-    public boolean isDawnAnimationEnabled() { return config.getBoolean("animation.dawn.enabled"); }
-    public int getDawnAnimationDuration() { return config.getInt("animation.dawn.duration-seconds"); }
-    public int getDawnAnimationSteps() { return config.getInt("animation.dawn.animation-steps"); }
-    public boolean isDawnTitleEnabled() { return config.getBoolean("animation.dawn.title.enabled"); }
-    public boolean isDawnBossBarEnabled() { return config.getBoolean("animation.dawn.boss-bar.enabled"); }
-    public String getDawnBossBarColor() { return config.getString("animation.dawn.boss-bar.color"); }
-    public String getDawnBossBarStyle() { return config.getString("animation.dawn.boss-bar.style"); }
-    public boolean isDawnParticlesEnabled() { return config.getBoolean("animation.dawn.particles.enabled"); }
-    public String getDawnParticleType() { return config.getString("animation.dawn.particles.type"); }
-    public String getDawnSound() { return config.getString("animation.dawn.sounds.animation-sound"); }
-    public String getDawnFinalSound() { return config.getString("animation.dawn.sounds.final-sound"); }
+    public boolean isDawnAnimationEnabled() { return snapshot.isDawnAnimationEnabled(); }
+    public int getDawnAnimationDuration() { return snapshot.getDawnAnimationDuration(); }
+    public int getDawnAnimationSteps() { return snapshot.getDawnAnimationSteps(); }
+    public boolean isDawnTitleEnabled() { return snapshot.isDawnTitleEnabled(); }
+    public boolean isDawnBossBarEnabled() { return snapshot.isDawnBossBarEnabled(); }
+    public String getDawnBossBarColor() { return snapshot.getDawnBossBarColorName(); }
+    public String getDawnBossBarStyle() { return snapshot.getDawnBossBarStyleName(); }
+    public boolean isDawnParticlesEnabled() { return snapshot.isDawnParticlesEnabled(); }
+    public String getDawnParticleType() { return snapshot.getDawnParticleName(); }
+    public String getDawnSound() { return snapshot.getDawnSoundName(); }
+    public String getDawnFinalSound() { return snapshot.getDawnFinalSoundName(); }
 
     // Advanced settings
-    public boolean isDatabaseEnabled() { return config.getBoolean("advanced.database.enabled"); }
-    public String getDatabaseType() { return config.getString("advanced.database.type"); }
-    public boolean isUpdateCheckEnabled() { return config.getBoolean("advanced.update-checker"); }
-    public boolean isDebugMode() { return config.getBoolean("advanced.debug-mode"); }
-    public boolean isMetricsEnabled() { return config.getBoolean("advanced.metrics"); }
-    public List<String> getExemptGameModes() { return config.getStringList("advanced.exempt-gamemodes"); }
-    public List<String> getExemptPermissions() { return config.getStringList("advanced.exempt-permissions"); }
+    public boolean isDatabaseEnabled() { return snapshot.isDatabaseEnabled(); }
+    public String getDatabaseType() { return snapshot.getDatabaseType(); }
+    public String getDatabaseHost() { return snapshot.getDatabaseHost(); }
+    public int getDatabasePort() { return snapshot.getDatabasePort(); }
+    public String getDatabaseName() { return snapshot.getDatabaseName(); }
+    public String getDatabaseUsername() { return snapshot.getDatabaseUsername(); }
+    public String getDatabasePassword() { return snapshot.getDatabasePassword(); }
+    public boolean isDatabaseSsl() { return snapshot.isDatabaseSsl(); }
+    public int getDatabasePoolSize() { return snapshot.getDatabasePoolSize(); }
+    public int getDatabaseIdleTimeout() { return snapshot.getDatabaseIdleTimeout(); }
+    public int getDatabaseConnectionTimeout() { return snapshot.getDatabaseConnectionTimeout(); }
+    public boolean isUpdateCheckEnabled() { return snapshot.isUpdateCheckEnabled(); }
+    public boolean isDebugMode() { return snapshot.isDebugMode(); }
+    public boolean isMetricsEnabled() { return snapshot.isMetricsEnabled(); }
+    public int getSkipSpreadTicks() { return snapshot.getSkipSpreadTicks(); }
+    public boolean isLoadSheddingEnabled() { return snapshot.isLoadSheddingEnabled(); }
+    public List<String> getExemptGameModes() { return snapshot.getExemptGameModeNames(); }
+    public List<String> getExemptPermissions() { return snapshot.getExemptPermissions(); }
 
     public void reload() {
         loadConfigurations();
@@ -0,0 +1,45 @@
+package com.github.k1ritoz.vote2Sleep.data;
+
+/**
+ * Levels at which each {@link LoadTier} is entered and left, in the unit of the feed they
+ * are compared with: milliseconds spent per tick, or milliseconds a tick ran late
+ */
+public final class LoadThresholds {
+
+    private final double reduced;
+    private final double minimal;
+    private final double critical;
+    private final double hysteresis;
+
+    public LoadThresholds(double reduced, double minimal, double critical, double hysteresis) {
+        this.reduced = reduced;
+        this.minimal = Math.max(reduced, minimal);
+        this.critical = Math.max(this.minimal, critical);
+        this.hysteresis = Math.max(0.0, hysteresis);
+    }
+
+    /**
+     * Level at which the tier is entered; NORMAL is always entered
+     */
+    public double enter(LoadTier tier) {
+        switch (tier) {
+            case REDUCED:
+                return reduced;
+            case MINIMAL:
+                return minimal;
+            case CRITICAL:
+                return critical;
+            default:
+                return 0.0;
+        }
+    }
+
+    /**
+     * Level the load must stay below to leave the tier. It is kept at least halfway down to
+     * zero, so a small threshold with a large hysteresis can still be left.
+     */
+    public double exit(LoadTier tier) {
+        double enter = enter(tier);
+        return Math.max(enter - hysteresis, enter / 2.0);
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.k1ritoz.vote2Sleep.data;
+
+/**
+ * How much cosmetic work the plugin does under the current server load, from full
+ * effects (NORMAL) to an instant skip with only the essential messages (CRITICAL)
+ */
+public enum LoadTier {
+    NORMAL(true, true, true, true, true, true, 1),
+    REDUCED(false, false, true, true, true, true, 1),
+    MINIMAL(false, false, false, false, true, true, 2),
+    CRITICAL(false, false, false, false, false, false, 2);
+
+    private final boolean particles;
+    private final boolean lightning;
+    private final boolean sounds;
+    private final boolean actionBars;
+    private final boolean titles;
+    private final boolean dawnAnimation;
+    private final int dawnStepDivisor;
+
+    LoadTier(boolean particles, boolean lightning, boolean sounds, boolean actionBars,
+             boolean titles, boolean dawnAnimation, int dawnStepDivisor) {
+        this.particles = particles;
+        this.lightning = lightning;
+        this.sounds = sounds;
+        this.actionBars = actionBars;
+        this.titles = titles;
+        this.dawnAnimation = dawnAnimation;
+        this.dawnStepDivisor = dawnStepDivisor;
+    }
+
+    public boolean allowsParticles() { return particles; }
+    public boolean allowsLightning() { return lightning; }
+    public boolean allowsSounds() { return sounds; }
+    public boolean allowsActionBars() { return actionBars; }
+    public boolean allowsTitles() { return titles; }
+    public boolean allowsDawnAnimation() { return dawnAnimation; }
+
+    /**
+     * The configured dawn animation steps are divided by this
+     */
+    public int getDawnStepDivisor() { return dawnStepDivisor; }
+
+    public LoadTier lower() {
+        return this == NORMAL ? NORMAL : values()[ordinal() - 1];
+    }
+
+    public LoadTier max(LoadTier other) {
+        return other.ordinal() > ordinal() ? other : this;
+    }
+}
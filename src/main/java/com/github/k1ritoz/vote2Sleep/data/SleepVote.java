@@ -1,27 +1,100 @@
 package com.github.k1ritoz.vote2Sleep.data;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
 
-public class SleepVote {
+/**
+ * Immutable vote. Stores only primitives (no Location, no World reference),
+ * so votes stay small and never keep an unloaded world alive.
+ */
+public final class SleepVote {
 
-    private final UUID playerUUID;
+    private final long playerIdMost;
+    private final long playerIdLeast;
     private final String playerName;
-    private final LocalDateTime timestamp;
-    private final Location location;
+    private final long timestampMillis;
+    private final long worldIdMost;
+    private final long worldIdLeast;
+    private final double x;
+    private final double y;
+    private final double z;
 
-    public SleepVote(UUID playerUUID, String playerName, LocalDateTime timestamp, Location location) {
-        this.playerUUID = playerUUID;
+    public SleepVote(UUID playerUUID, String playerName, long timestampMillis, UUID worldUUID, double x, double y, double z) {
+        this.playerIdMost = playerUUID.getMostSignificantBits();
+        this.playerIdLeast = playerUUID.getLeastSignificantBits();
         this.playerName = playerName;
-        this.timestamp = timestamp;
-        this.location = location.clone();
+        this.timestampMillis = timestampMillis;
+        this.worldIdMost = worldUUID.getMostSignificantBits();
+        this.worldIdLeast = worldUUID.getLeastSignificantBits();
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public SleepVote(UUID playerUUID, String playerName, long timestampMillis, Location location) {
+        this(playerUUID, playerName, timestampMillis, location.getWorld().getUID(),
+                location.getX(), location.getY(), location.getZ());
     }
 
-    // Getters
-    public UUID getPlayerUUID() { return playerUUID; }
+    /**
+     * @deprecated use {@link #SleepVote(UUID, String, long, Location)} with epoch milliseconds
+     */
+    @Deprecated
+    public SleepVote(UUID playerUUID, String playerName, LocalDateTime timestamp, Location location) {
+        this(playerUUID, playerName, timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), location);
+    }
+
+    // Getters; the UUID getters allocate on every call and are meant for API callers
+    public UUID getPlayerUUID() { return new UUID(playerIdMost, playerIdLeast); }
     public String getPlayerName() { return playerName; }
-    public LocalDateTime getTimestamp() { return timestamp; }
-    public Location getLocation() { return location.clone(); }
-}
\ No newline at end of file
+    public long getTimestampMillis() { return timestampMillis; }
+    public UUID getWorldUUID() { return new UUID(worldIdMost, worldIdLeast); }
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getZ() { return z; }
+
+    /**
+     * Compares the stored id bits, so unlike {@code getPlayerUUID().equals(...)} nothing is allocated
+     */
+    public boolean isPlayer(UUID playerUUID) {
+        return playerUUID.getMostSignificantBits() == playerIdMost && playerUUID.getLeastSignificantBits() == playerIdLeast;
+    }
+
+    public boolean isWorld(UUID worldUUID) {
+        return worldUUID.getMostSignificantBits() == worldIdMost && worldUUID.getLeastSignificantBits() == worldIdLeast;
+    }
+
+    public boolean isInWorld(World world) {
+        return isWorld(world.getUID());
+    }
+
+    /**
+     * Creates the vote location in the given world
+     */
+    public Location toLocation(World world) {
+        return new Location(world, x, y, z);
+    }
+
+    /**
+     * @deprecated use {@link #getTimestampMillis()}
+     */
+    @Deprecated
+    public LocalDateTime getTimestamp() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * @deprecated use the coordinate getters or {@link #toLocation(World)}; the world is
+     * looked up on every call and is null once it has been unloaded
+     */
+    @Deprecated
+    public Location getLocation() {
+        return new Location(Bukkit.getWorld(getWorldUUID()), x, y, z);
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.k1ritoz.vote2Sleep.data;
+
+/**
+ * Immutable summary of the server's recent tick durations. Safe to read from any thread.
+ */
+public final class TickHealth {
+
+    // Before the first sample: a healthy, idle server
+    public static final TickHealth IDLE = new TickHealth(0.0, 0.0, 0.0, 20.0, 0, true, -1L);
+
+    private final double msptAverage;
+    private final double msptP50;
+    private final double msptP95;
+    private final double tps;
+    private final int sampleCount;
+    private final boolean estimated;
+    private final long sampledTick;
+
+    public TickHealth(double msptAverage, double msptP50, double msptP95, double tps,
+                      int sampleCount, boolean estimated, long sampledTick) {
+        this.msptAverage = msptAverage;
+        this.msptP50 = msptP50;
+        this.msptP95 = msptP95;
+        this.tps = tps;
+        this.sampleCount = sampleCount;
+        this.estimated = estimated;
+        this.sampledTick = sampledTick;
+    }
+
+    public double getMsptAverage() {
+        return msptAverage;
+    }
+
+    public double getMsptP50() {
+        return msptP50;
+    }
+
+    public double getMsptP95() {
+        return msptP95;
+    }
+
+    public double getTps() {
+        return tps;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * True when MSPT is derived from the time between ticks rather than the server's own
+     * tick times. Such values never drop below 50 ms, so only overload is visible in them.
+     */
+    public boolean isEstimated() {
+        return estimated;
+    }
+
+    public long getSampledTick() {
+        return sampledTick;
+    }
+}
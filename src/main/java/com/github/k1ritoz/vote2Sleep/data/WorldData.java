@@ -2,6 +2,9 @@ package com.github.k1ritoz.vote2Sleep.data;
 
 import org.bukkit.World;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -13,11 +16,13 @@ public class WorldData {
 
     private final World world;
     private final Map<UUID, SleepVote> votes;
+    private final Map<UUID, SleepVote> votesView;
     private long lastSkipTime;
 
     public WorldData(World world) {
         this.world = world;
         this.votes = new ConcurrentHashMap<>();
+        this.votesView = Collections.unmodifiableMap(votes);
         this.lastSkipTime = 0;
     }
 
@@ -37,8 +42,26 @@ public class WorldData {
         return votes.get(playerUUID);
     }
 
+    /**
+     * Read-only live view of the votes; it reflects later changes, so use
+     * {@link #snapshotVotes()} when a stable copy is needed
+     */
     public Map<UUID, SleepVote> getVotes() {
-        return new ConcurrentHashMap<>(votes);
+        return votesView;
+    }
+
+    /**
+     * Copy of the current votes, e.g. for the skip event payload
+     */
+    public List<SleepVote> snapshotVotes() {
+        return new ArrayList<>(votes.values());
+    }
+
+    /**
+     * Copy of the voter ids, reusing the vote map's own key objects
+     */
+    public List<UUID> snapshotVoterIds() {
+        return new ArrayList<>(votes.keySet());
     }
 
     public void clearVotes() {
@@ -58,6 +81,9 @@ public class WorldData {
         this.lastSkipTime = lastSkipTime;
     }
 
+    /**
+     * Number of votes; ConcurrentHashMap keeps a running counter, so this does not iterate or copy
+     */
     public int getVoteCount() {
         return votes.size();
     }
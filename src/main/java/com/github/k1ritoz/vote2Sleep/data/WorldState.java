@@ -0,0 +1,101 @@
+package com.github.k1ritoz.vote2Sleep.data;
+
+import java.util.UUID;
+
+/**
+ * Immutable view of a world's sleep-relevant state, sampled once per tick.
+ * Safe to read from any thread.
+ */
+public final class WorldState {
+
+    // Night window in world ticks; sleeping is possible from NIGHT_START through NIGHT_END
+    public static final long NIGHT_START = 12542L;
+    public static final long NIGHT_END = 23459L;
+    // Version of states read live instead of sampled on the tick; never cache by it
+    public static final long UNVERSIONED = -1L;
+
+    private final UUID worldUUID;
+    private final String worldName;
+    private final long time;
+    private final boolean night;
+    private final boolean storm;
+    private final boolean sleepPossible;
+    private final int eligiblePlayers;
+    private final int currentVotes;
+    private final int requiredVotes;
+    private final boolean animating;
+    private final long sampledTick;
+    private final long version;
+
+    public WorldState(UUID worldUUID, String worldName, long time, boolean storm, boolean sleepPossible,
+                      int eligiblePlayers, int currentVotes, int requiredVotes, boolean animating, long sampledTick, long version) {
+        this.worldUUID = worldUUID;
+        this.worldName = worldName;
+        this.time = time;
+        this.night = isNightTime(time);
+        this.storm = storm;
+        this.sleepPossible = sleepPossible;
+        this.eligiblePlayers = eligiblePlayers;
+        this.currentVotes = currentVotes;
+        this.requiredVotes = requiredVotes;
+        this.animating = animating;
+        this.sampledTick = sampledTick;
+        this.version = version;
+    }
+
+    /**
+     * Copy of this state with another version
+     */
+    public WorldState withVersion(long version) {
+        return new WorldState(worldUUID, worldName, time, storm, sleepPossible,
+                eligiblePlayers, currentVotes, requiredVotes, animating, sampledTick, version);
+    }
+
+    public static boolean isNightTime(long time) {
+        return time >= NIGHT_START && time <= NIGHT_END;
+    }
+
+    /**
+     * Whether anything other than the clock differs from the other state
+     * (votes, eligibility, night/day phase, weather or animation)
+     */
+    public boolean hasSameVoteState(WorldState other) {
+        return currentVotes == other.currentVotes &&
+                requiredVotes == other.requiredVotes &&
+                eligiblePlayers == other.eligiblePlayers &&
+                night == other.night &&
+                storm == other.storm &&
+                sleepPossible == other.sleepPossible &&
+                animating == other.animating;
+    }
+
+    /**
+     * Skip type recorded in the statistics
+     */
+    public String getSkipType() {
+        if (night && storm) return "NIGHT_STORM";
+        if (night) return "NIGHT";
+        if (storm) return "STORM";
+        return "UNKNOWN";
+    }
+
+    // Getters
+    public UUID getWorldUUID() { return worldUUID; }
+    public String getWorldName() { return worldName; }
+    public long getTime() { return time; }
+    public boolean isNight() { return night; }
+    public boolean isStorm() { return storm; }
+    public boolean canSleep() { return sleepPossible; }
+    public int getEligiblePlayers() { return eligiblePlayers; }
+    public int getCurrentVotes() { return currentVotes; }
+    public int getRequiredVotes() { return requiredVotes; }
+    public int getRemainingVotes() { return Math.max(0, requiredVotes - currentVotes); }
+    public boolean isAnimating() { return animating; }
+    public long getSampledTick() { return sampledTick; }
+
+    /**
+     * Changes whenever the vote state changes (the clock alone does not change it)
+     * and is never reused, so it can key caches
+     */
+    public long getVersion() { return version; }
+}
@@ -0,0 +1,240 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.logging.Logger;
+
+/**
+ * Small bounded JDBC connection pool. Idle connections are validated before
+ * reuse and closed once they have been idle longer than the idle timeout.
+ */
+public final class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Opens a new physical connection
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    // Connections idle for less than this are handed out without a validation round trip
+    private static final long VALIDATION_GRACE_MILLIS = 500L;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final ConnectionFactory factory;
+    private final Logger logger;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long connectionTimeoutMillis;
+
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    private int openConnections;
+    private boolean closed;
+
+    public ConnectionPool(ConnectionFactory factory, Logger logger, int maxSize,
+                          long idleTimeoutMillis, long connectionTimeoutMillis) {
+        this.factory = factory;
+        this.logger = logger;
+        this.maxSize = Math.max(1, maxSize);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+    }
+
+    /**
+     * Borrows a connection, waiting up to the connection timeout when all of them are in use.
+     * Closing the returned lease gives the connection back to the pool.
+     */
+    public Lease borrow() throws SQLException {
+        long deadline = System.currentTimeMillis() + connectionTimeoutMillis;
+
+        while (true) {
+            IdleConnection candidate;
+            synchronized (this) {
+                if (closed) {
+                    throw new SQLException("Connection pool is closed");
+                }
+
+                candidate = idle.pollFirst();
+                if (candidate == null) {
+                    if (openConnections < maxSize) {
+                        openConnections++;
+                    } else {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            throw new SQLException("Timed out waiting for a database connection");
+                        }
+                        try {
+                            wait(remaining);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new SQLException("Interrupted while waiting for a database connection", e);
+                        }
+                        continue;
+                    }
+                }
+            }
+
+            // Connection I/O happens outside the lock
+            if (candidate == null) {
+                try {
+                    return new Lease(factory.create());
+                } catch (SQLException e) {
+                    discarded();
+                    throw e;
+                }
+            }
+
+            if (isUsable(candidate)) {
+                return new Lease(candidate.connection);
+            }
+            closeQuietly(candidate.connection);
+            discarded();
+        }
+    }
+
+    private boolean isUsable(IdleConnection candidate) {
+        long idleFor = System.currentTimeMillis() - candidate.idleSince;
+        if (idleFor > idleTimeoutMillis) {
+            return false;
+        }
+        if (idleFor < VALIDATION_GRACE_MILLIS) {
+            return true;
+        }
+
+        try {
+            return candidate.connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(Connection connection, boolean broken) {
+        boolean reusable = !broken;
+        if (reusable) {
+            try {
+                reusable = !connection.isClosed() && connection.getAutoCommit();
+            } catch (SQLException e) {
+                reusable = false;
+            }
+        }
+
+        synchronized (this) {
+            if (reusable && !closed) {
+                idle.addFirst(new IdleConnection(connection, System.currentTimeMillis()));
+                notify();
+                return;
+            }
+        }
+
+        closeQuietly(connection);
+        discarded();
+    }
+
+    private synchronized void discarded() {
+        openConnections--;
+        notify();
+    }
+
+    /**
+     * Closes connections that have been idle longer than the idle timeout
+     */
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        Deque<Connection> expired = new ArrayDeque<>();
+
+        synchronized (this) {
+            Iterator<IdleConnection> iterator = idle.iterator();
+            while (iterator.hasNext()) {
+                IdleConnection entry = iterator.next();
+                if (now - entry.idleSince > idleTimeoutMillis) {
+                    iterator.remove();
+                    expired.add(entry.connection);
+                }
+            }
+        }
+
+        for (Connection connection : expired) {
+            closeQuietly(connection);
+            discarded();
+        }
+    }
+
+    public synchronized int getOpenConnections() {
+        return openConnections;
+    }
+
+    public synchronized int getIdleConnections() {
+        return idle.size();
+    }
+
+    @Override
+    public void close() {
+        Deque<IdleConnection> remaining;
+        synchronized (this) {
+            closed = true;
+            remaining = new ArrayDeque<>(idle);
+            idle.clear();
+            notifyAll();
+        }
+
+        for (IdleConnection entry : remaining) {
+            closeQuietly(entry.connection);
+            discarded();
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A borrowed connection; close it to hand the connection back
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Connection connection;
+        private boolean broken;
+        private boolean released;
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+        }
+
+        public Connection get() {
+            return connection;
+        }
+
+        /**
+         * Marks the connection as unusable so it is closed instead of returned
+         */
+        public void invalidate() {
+            broken = true;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(connection, broken);
+            }
+        }
+    }
+
+    private static final class IdleConnection {
+        private final Connection connection;
+        private final long idleSince;
+
+        private IdleConnection(Connection connection, long idleSince) {
+            this.connection = connection;
+            this.idleSince = idleSince;
+        }
+    }
+}
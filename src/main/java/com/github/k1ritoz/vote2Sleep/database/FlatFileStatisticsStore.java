@@ -0,0 +1,207 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Append-only, tab separated log for servers that don't want a JDBC database.
+ * Aggregates are rebuilt from the log on startup and kept in memory afterwards.
+ *
+ * <pre>
+ * S  id  skip_time  world_uuid  voter_count  skip_type  world_name
+ * V  skip_event_id  player_uuid  vote_time  x  y  z  player_name
+ * </pre>
+ */
+public class FlatFileStatisticsStore implements StatisticsStore {
+
+    private static final String FILE_NAME = "statistics.log";
+
+    private final File dataFolder;
+    private final Logger logger;
+    private final StatisticsCounters counters = new StatisticsCounters();
+    private File file;
+    private FileOutputStream output;
+    private BufferedWriter writer;
+    private long lastId;
+
+    public FlatFileStatisticsStore(Vote2Sleep plugin) {
+        this(plugin.getDataFolder(), plugin.getLogger());
+    }
+
+    FlatFileStatisticsStore(File dataFolder, Logger logger) {
+        this.dataFolder = dataFolder;
+        this.logger = logger;
+    }
+
+    @Override
+    public String getName() {
+        return "File";
+    }
+
+    @Override
+    public synchronized void initialize() throws StorageException {
+        if (!dataFolder.exists()) {
+            dataFolder.mkdirs();
+        }
+
+        file = new File(dataFolder, FILE_NAME);
+        try {
+            if (file.exists()) {
+                load();
+            }
+            output = new FileOutputStream(file, true);
+            writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new StorageException("Could not open " + FILE_NAME + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void load() throws IOException {
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                try {
+                    if (fields.length >= 7 && fields[0].equals("S")) {
+                        lastId = Math.max(lastId, Long.parseLong(fields[1]));
+                        counters.recordSkip(UUID.fromString(fields[3]), fields[5]);
+                    } else if (fields.length >= 8 && fields[0].equals("V")) {
+                        counters.recordVote(UUID.fromString(fields[2]));
+                    } else if (!line.isEmpty()) {
+                        skipped++;
+                    }
+                } catch (IllegalArgumentException e) {
+                    skipped++;
+                }
+            }
+        }
+
+        if (skipped > 0) {
+            logger.warning("Ignored " + skipped + " malformed line(s) in " + FILE_NAME);
+        }
+    }
+
+    @Override
+    public synchronized long appendSkipEvent(SkipEventRecord event) throws StorageException {
+        long id = ++lastId;
+        try {
+            writeSkipEvent(id, event);
+            sync();
+        } catch (IOException e) {
+            throw new StorageException("Failed to write skip event: " + e.getMessage(), e);
+        }
+        counters.recordSkip(event.getWorldUuid(), event.getSkipType());
+        return id;
+    }
+
+    @Override
+    public synchronized void appendVotes(long skipEventId, List<VoteRecord> votes) throws StorageException {
+        try {
+            writeVotes(skipEventId, votes);
+            sync();
+        } catch (IOException e) {
+            throw new StorageException("Failed to write votes: " + e.getMessage(), e);
+        }
+        for (VoteRecord vote : votes) {
+            counters.recordVote(vote.getPlayerUuid());
+        }
+    }
+
+    /**
+     * Writes the whole group and syncs the file once
+     */
+    @Override
+    public synchronized void appendAll(List<SkipEventRecord> events) throws StorageException {
+        long firstId = lastId + 1;
+        // Ids are consumed even if the write fails, a partial line may already be on disk
+        lastId = firstId + events.size() - 1;
+        try {
+            long id = firstId;
+            for (SkipEventRecord event : events) {
+                writeSkipEvent(id, event);
+                writeVotes(id, event.getVotes());
+                id++;
+            }
+            sync();
+        } catch (IOException e) {
+            throw new StorageException("Failed to write " + events.size() + " skip event(s): " + e.getMessage(), e);
+        }
+
+        for (SkipEventRecord event : events) {
+            counters.recordSkip(event.getWorldUuid(), event.getSkipType());
+            for (VoteRecord vote : event.getVotes()) {
+                counters.recordVote(vote.getPlayerUuid());
+            }
+        }
+    }
+
+    private void writeSkipEvent(long id, SkipEventRecord event) throws IOException {
+        writer.write("S\t" + id + "\t" + event.getSkipTimeMillis() + "\t" + event.getWorldUuid()
+                + "\t" + event.getVotes().size() + "\t" + event.getSkipType() + "\t" + clean(event.getWorldName()));
+        writer.newLine();
+    }
+
+    private void writeVotes(long skipEventId, List<VoteRecord> votes) throws IOException {
+        for (VoteRecord vote : votes) {
+            writer.write("V\t" + skipEventId + "\t" + vote.getPlayerUuid() + "\t" + vote.getVoteTimeMillis()
+                    + "\t" + vote.getX() + "\t" + vote.getY() + "\t" + vote.getZ() + "\t" + clean(vote.getPlayerName()));
+            writer.newLine();
+        }
+    }
+
+    private void sync() throws IOException {
+        writer.flush();
+        output.getFD().sync();
+    }
+
+    // Names end up as the last column, only separators have to go
+    private static String clean(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    @Override
+    public long getSkipCount(UUID worldUuid) {
+        return counters.getSkipCount(worldUuid);
+    }
+
+    @Override
+    public long getTotalSkipCount() {
+        return counters.getTotalSkipCount();
+    }
+
+    @Override
+    public long getVoteCount(UUID playerUuid) {
+        return counters.getVoteCount(playerUuid);
+    }
+
+    @Override
+    public Map<String, Long> getSkipCountsByType() {
+        return counters.getSkipCountsByType();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warning("Error closing " + FILE_NAME + ": " + e.getMessage());
+            }
+            writer = null;
+            output = null;
+        }
+    }
+}
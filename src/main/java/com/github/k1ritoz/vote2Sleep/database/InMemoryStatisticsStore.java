@@ -0,0 +1,72 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps statistics on the heap only; nothing survives a restart.
+ * Useful for testing and for servers that only want live counters.
+ */
+public class InMemoryStatisticsStore implements StatisticsStore {
+
+    private final List<SkipEventRecord> events = new ArrayList<>();
+    private final StatisticsCounters counters = new StatisticsCounters();
+
+    @Override
+    public String getName() {
+        return "Memory";
+    }
+
+    @Override
+    public void initialize() {
+    }
+
+    @Override
+    public synchronized long appendSkipEvent(SkipEventRecord event) {
+        events.add(event);
+        counters.recordSkip(event.getWorldUuid(), event.getSkipType());
+        return events.size();
+    }
+
+    @Override
+    public void appendVotes(long skipEventId, List<VoteRecord> votes) {
+        for (VoteRecord vote : votes) {
+            counters.recordVote(vote.getPlayerUuid());
+        }
+    }
+
+    /**
+     * Recorded events in insertion order
+     */
+    public synchronized List<SkipEventRecord> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    @Override
+    public long getSkipCount(UUID worldUuid) {
+        return counters.getSkipCount(worldUuid);
+    }
+
+    @Override
+    public long getTotalSkipCount() {
+        return counters.getTotalSkipCount();
+    }
+
+    @Override
+    public long getVoteCount(UUID playerUuid) {
+        return counters.getVoteCount(playerUuid);
+    }
+
+    @Override
+    public Map<String, Long> getSkipCountsByType() {
+        return counters.getSkipCountsByType();
+    }
+
+    @Override
+    public synchronized void close() {
+        events.clear();
+        counters.clear();
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Shared JDBC implementation; subclasses only decide how connections are opened
+ */
+public abstract class JdbcStatisticsStore implements StatisticsStore {
+
+    private static final String INSERT_SKIP_EVENT = """
+        INSERT INTO skip_events (world_name, world_uuid, skip_time, voter_count, skip_type)
+        VALUES (?, ?, ?, ?, ?)
+    """;
+
+    private static final String INSERT_VOTE = """
+        INSERT INTO votes (skip_event_id, player_uuid, player_name, vote_time, location_x, location_y, location_z)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    protected final Logger logger;
+    private final SqlDialect dialect;
+    private ConnectionPool pool;
+
+    protected JdbcStatisticsStore(SqlDialect dialect, Logger logger) {
+        this.dialect = dialect;
+        this.logger = logger;
+    }
+
+    /**
+     * Creates the connection pool for this backend
+     */
+    protected abstract ConnectionPool createPool() throws StorageException;
+
+    @Override
+    public void initialize() throws StorageException {
+        pool = createPool();
+
+        try (ConnectionPool.Lease lease = pool.borrow();
+             Statement stmt = lease.get().createStatement()) {
+            stmt.execute(dialect.getCreateSkipEventsTable());
+            stmt.execute(dialect.getCreateVotesTable());
+        } catch (SQLException e) {
+            close();
+            throw new StorageException("Failed to create tables: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public long appendSkipEvent(SkipEventRecord event) throws StorageException {
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            return insertSkipEvent(lease.get(), event);
+        } catch (SQLException e) {
+            throw new StorageException("Failed to save skip event: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void appendVotes(long skipEventId, List<VoteRecord> votes) throws StorageException {
+        try (ConnectionPool.Lease lease = pool.borrow();
+             PreparedStatement stmt = lease.get().prepareStatement(INSERT_VOTE)) {
+            addVotes(stmt, skipEventId, votes);
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            throw new StorageException("Failed to save votes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the whole group in one transaction, so SQLite syncs once per group
+     */
+    @Override
+    public void appendAll(List<SkipEventRecord> events) throws StorageException {
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            Connection connection = lease.get();
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement voteStmt = connection.prepareStatement(INSERT_VOTE)) {
+                int voteCount = 0;
+                for (SkipEventRecord event : events) {
+                    long skipEventId = insertSkipEvent(connection, event);
+                    addVotes(voteStmt, skipEventId, event.getVotes());
+                    voteCount += event.getVotes().size();
+                }
+
+                if (voteCount > 0) {
+                    voteStmt.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                try {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                } catch (SQLException rollbackError) {
+                    // The connection itself is gone; don't hand it back to the pool
+                    lease.invalidate();
+                }
+                throw e;
+            }
+
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new StorageException("Failed to save " + events.size() + " skip event(s): " + e.getMessage(), e);
+        }
+    }
+
+    private long insertSkipEvent(Connection connection, SkipEventRecord event) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_SKIP_EVENT, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setString(1, event.getWorldName());
+            stmt.setString(2, event.getWorldUuid().toString());
+            stmt.setTimestamp(3, new Timestamp(event.getSkipTimeMillis()));
+            stmt.setInt(4, event.getVotes().size());
+            stmt.setString(5, event.getSkipType());
+            stmt.executeUpdate();
+
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    return keys.getLong(1);
+                }
+                throw new SQLException("Failed to get generated key for skip event");
+            }
+        }
+    }
+
+    private void addVotes(PreparedStatement stmt, long skipEventId, List<VoteRecord> votes) throws SQLException {
+        for (VoteRecord vote : votes) {
+            stmt.setLong(1, skipEventId);
+            stmt.setString(2, vote.getPlayerUuid().toString());
+            stmt.setString(3, vote.getPlayerName());
+            stmt.setTimestamp(4, new Timestamp(vote.getVoteTimeMillis()));
+            stmt.setDouble(5, vote.getX());
+            stmt.setDouble(6, vote.getY());
+            stmt.setDouble(7, vote.getZ());
+            stmt.addBatch();
+        }
+    }
+
+    @Override
+    public long getSkipCount(UUID worldUuid) throws StorageException {
+        return queryCount("SELECT COUNT(*) FROM skip_events WHERE world_uuid = ?", worldUuid.toString());
+    }
+
+    @Override
+    public long getTotalSkipCount() throws StorageException {
+        return queryCount("SELECT COUNT(*) FROM skip_events", null);
+    }
+
+    @Override
+    public long getVoteCount(UUID playerUuid) throws StorageException {
+        return queryCount("SELECT COUNT(*) FROM votes WHERE player_uuid = ?", playerUuid.toString());
+    }
+
+    @Override
+    public Map<String, Long> getSkipCountsByType() throws StorageException {
+        Map<String, Long> counts = new HashMap<>();
+        try (ConnectionPool.Lease lease = pool.borrow();
+             PreparedStatement stmt = lease.get().prepareStatement(
+                     "SELECT skip_type, COUNT(*) FROM skip_events GROUP BY skip_type");
+             ResultSet result = stmt.executeQuery()) {
+            while (result.next()) {
+                counts.put(result.getString(1), result.getLong(2));
+            }
+        } catch (SQLException e) {
+            throw new StorageException("Failed to query skip types: " + e.getMessage(), e);
+        }
+        return counts;
+    }
+
+    private long queryCount(String sql, String parameter) throws StorageException {
+        try (ConnectionPool.Lease lease = pool.borrow();
+             PreparedStatement stmt = lease.get().prepareStatement(sql)) {
+            if (parameter != null) {
+                stmt.setString(1, parameter);
+            }
+            try (ResultSet result = stmt.executeQuery()) {
+                return result.next() ? result.getLong(1) : 0L;
+            }
+        } catch (SQLException e) {
+            throw new StorageException("Failed to query statistics: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void maintain() {
+        if (pool != null) {
+            pool.evictIdle();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
+    }
+}
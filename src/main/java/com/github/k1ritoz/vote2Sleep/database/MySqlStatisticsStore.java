@@ -0,0 +1,50 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.config.ConfigurationManager;
+
+import java.sql.DriverManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remote MySQL or MariaDB database, for networks sharing statistics
+ */
+public class MySqlStatisticsStore extends JdbcStatisticsStore {
+
+    private final Vote2Sleep plugin;
+
+    public MySqlStatisticsStore(Vote2Sleep plugin) {
+        super(SqlDialect.MYSQL, plugin.getLogger());
+        this.plugin = plugin;
+    }
+
+    @Override
+    public String getName() {
+        return "MySQL";
+    }
+
+    @Override
+    protected ConnectionPool createPool() throws StorageException {
+        ConfigurationManager config = plugin.getConfigManager();
+
+        try {
+            // Load explicitly, the relocated driver is not picked up through the service loader
+            Class.forName("com.mysql.cj.jdbc.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new StorageException("MySQL driver not found", e);
+        }
+
+        String url = "jdbc:mysql://" + config.getDatabaseHost() + ":" + config.getDatabasePort() + "/" + config.getDatabaseName()
+                + "?useSSL=" + config.isDatabaseSsl()
+                + "&allowPublicKeyRetrieval=" + !config.isDatabaseSsl()
+                + "&characterEncoding=utf8"
+                + "&connectTimeout=" + TimeUnit.SECONDS.toMillis(config.getDatabaseConnectionTimeout());
+        String username = config.getDatabaseUsername();
+        String password = config.getDatabasePassword();
+
+        return new ConnectionPool(() -> DriverManager.getConnection(url, username, password), logger,
+                config.getDatabasePoolSize(),
+                TimeUnit.SECONDS.toMillis(config.getDatabaseIdleTimeout()),
+                TimeUnit.SECONDS.toMillis(config.getDatabaseConnectionTimeout()));
+    }
+}
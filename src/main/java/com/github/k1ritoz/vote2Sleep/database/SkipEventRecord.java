@@ -0,0 +1,30 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A completed night or storm skip together with the votes that caused it
+ */
+public final class SkipEventRecord {
+
+    private final String worldName;
+    private final UUID worldUuid;
+    private final long skipTimeMillis;
+    private final String skipType;
+    private final List<VoteRecord> votes;
+
+    public SkipEventRecord(String worldName, UUID worldUuid, long skipTimeMillis, String skipType, List<VoteRecord> votes) {
+        this.worldName = worldName;
+        this.worldUuid = worldUuid;
+        this.skipTimeMillis = skipTimeMillis;
+        this.skipType = skipType;
+        this.votes = List.copyOf(votes);
+    }
+
+    public String getWorldName() { return worldName; }
+    public UUID getWorldUuid() { return worldUuid; }
+    public long getSkipTimeMillis() { return skipTimeMillis; }
+    public String getSkipType() { return skipType; }
+    public List<VoteRecord> getVotes() { return votes; }
+}
@@ -0,0 +1,78 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+/**
+ * Database specific SQL. Only DDL differs between the supported backends,
+ * the INSERT statements are portable.
+ */
+public enum SqlDialect {
+
+    SQLITE(
+            """
+            CREATE TABLE IF NOT EXISTS skip_events (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                world_name TEXT NOT NULL,
+                world_uuid TEXT NOT NULL,
+                skip_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                voter_count INTEGER NOT NULL,
+                skip_type TEXT NOT NULL
+            )
+            """,
+            """
+            CREATE TABLE IF NOT EXISTS votes (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                skip_event_id INTEGER,
+                player_uuid TEXT NOT NULL,
+                player_name TEXT NOT NULL,
+                vote_time TIMESTAMP NOT NULL,
+                location_x REAL,
+                location_y REAL,
+                location_z REAL,
+                FOREIGN KEY (skip_event_id) REFERENCES skip_events (id)
+            )
+            """
+    ),
+
+    MYSQL(
+            """
+            CREATE TABLE IF NOT EXISTS skip_events (
+                id INT NOT NULL AUTO_INCREMENT,
+                world_name VARCHAR(64) NOT NULL,
+                world_uuid CHAR(36) NOT NULL,
+                skip_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                voter_count INT NOT NULL,
+                skip_type VARCHAR(16) NOT NULL,
+                PRIMARY KEY (id)
+            ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """,
+            """
+            CREATE TABLE IF NOT EXISTS votes (
+                id INT NOT NULL AUTO_INCREMENT,
+                skip_event_id INT,
+                player_uuid CHAR(36) NOT NULL,
+                player_name VARCHAR(32) NOT NULL,
+                vote_time TIMESTAMP NOT NULL,
+                location_x DOUBLE,
+                location_y DOUBLE,
+                location_z DOUBLE,
+                PRIMARY KEY (id),
+                FOREIGN KEY (skip_event_id) REFERENCES skip_events (id)
+            ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """
+    );
+
+    private final String createSkipEventsTable;
+    private final String createVotesTable;
+
+    SqlDialect(String createSkipEventsTable, String createVotesTable) {
+        this.createSkipEventsTable = createSkipEventsTable;
+        this.createVotesTable = createVotesTable;
+    }
+
+    public String getCreateSkipEventsTable() {
+        return createSkipEventsTable;
+    }
+
+    public String getCreateVotesTable() {
+        return createVotesTable;
+    }
+}
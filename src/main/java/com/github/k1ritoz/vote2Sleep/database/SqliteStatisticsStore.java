@@ -0,0 +1,40 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+
+import java.io.File;
+import java.sql.DriverManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local file database, the default backend
+ */
+public class SqliteStatisticsStore extends JdbcStatisticsStore {
+
+    private final Vote2Sleep plugin;
+
+    public SqliteStatisticsStore(Vote2Sleep plugin) {
+        super(SqlDialect.SQLITE, plugin.getLogger());
+        this.plugin = plugin;
+    }
+
+    @Override
+    public String getName() {
+        return "SQLite";
+    }
+
+    @Override
+    protected ConnectionPool createPool() {
+        File dataFolder = plugin.getDataFolder();
+        if (!dataFolder.exists()) {
+            dataFolder.mkdirs();
+        }
+
+        String url = "jdbc:sqlite:" + dataFolder.getAbsolutePath() + "/vote2sleep.db";
+
+        // SQLite has a single writer, extra connections would only contend for the file lock
+        return new ConnectionPool(() -> DriverManager.getConnection(url), logger, 1,
+                TimeUnit.SECONDS.toMillis(plugin.getConfigManager().getDatabaseIdleTimeout()),
+                TimeUnit.SECONDS.toMillis(plugin.getConfigManager().getDatabaseConnectionTimeout()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Running aggregates for the stores that have no query engine of their own
+ */
+final class StatisticsCounters {
+
+    private final Map<UUID, Long> skipsByWorld = new HashMap<>();
+    private final Map<UUID, Long> votesByPlayer = new HashMap<>();
+    private final Map<String, Long> skipsByType = new HashMap<>();
+    private long totalSkips;
+
+    synchronized void recordSkip(UUID worldUuid, String skipType) {
+        skipsByWorld.merge(worldUuid, 1L, Long::sum);
+        skipsByType.merge(skipType, 1L, Long::sum);
+        totalSkips++;
+    }
+
+    synchronized void recordVote(UUID playerUuid) {
+        votesByPlayer.merge(playerUuid, 1L, Long::sum);
+    }
+
+    synchronized long getSkipCount(UUID worldUuid) {
+        return skipsByWorld.getOrDefault(worldUuid, 0L);
+    }
+
+    synchronized long getTotalSkipCount() {
+        return totalSkips;
+    }
+
+    synchronized long getVoteCount(UUID playerUuid) {
+        return votesByPlayer.getOrDefault(playerUuid, 0L);
+    }
+
+    synchronized Map<String, Long> getSkipCountsByType() {
+        return new HashMap<>(skipsByType);
+    }
+
+    synchronized void clear() {
+        skipsByWorld.clear();
+        votesByPlayer.clear();
+        skipsByType.clear();
+        totalSkips = 0;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Storage backend for skip statistics, selected by {@code advanced.database.type}.
+ * Writes are only issued from the database writer thread; queries may block on I/O
+ * and must not be called from the server thread.
+ */
+public interface StatisticsStore extends AutoCloseable {
+
+    /**
+     * Human readable backend name for logging
+     */
+    String getName();
+
+    /**
+     * Opens files or connections and creates the schema if needed
+     */
+    void initialize() throws StorageException;
+
+    /**
+     * Appends a skip event without its votes and returns the event id
+     */
+    long appendSkipEvent(SkipEventRecord event) throws StorageException;
+
+    /**
+     * Appends the votes belonging to a previously appended skip event
+     */
+    void appendVotes(long skipEventId, List<VoteRecord> votes) throws StorageException;
+
+    /**
+     * Appends a group of skip events with their votes. Backends that support
+     * transactions override this to commit the whole group at once.
+     */
+    default void appendAll(List<SkipEventRecord> events) throws StorageException {
+        for (SkipEventRecord event : events) {
+            long skipEventId = appendSkipEvent(event);
+            appendVotes(skipEventId, event.getVotes());
+        }
+    }
+
+    /**
+     * Number of skips recorded for a world
+     */
+    long getSkipCount(UUID worldUuid) throws StorageException;
+
+    /**
+     * Number of skips recorded across all worlds
+     */
+    long getTotalSkipCount() throws StorageException;
+
+    /**
+     * Number of votes a player cast that led to a skip
+     */
+    long getVoteCount(UUID playerUuid) throws StorageException;
+
+    /**
+     * Number of skips per skip type (NIGHT, STORM, NIGHT_STORM, ...)
+     */
+    Map<String, Long> getSkipCountsByType() throws StorageException;
+
+    /**
+     * Periodic housekeeping, called by the writer thread while it is idle
+     */
+    default void maintain() {
+    }
+
+    @Override
+    void close();
+}
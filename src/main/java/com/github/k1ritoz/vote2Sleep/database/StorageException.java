@@ -0,0 +1,15 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+/**
+ * Thrown by a {@link StatisticsStore} when reading or writing statistics fails
+ */
+public class StorageException extends Exception {
+
+    public StorageException(String message) {
+        super(message);
+    }
+
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
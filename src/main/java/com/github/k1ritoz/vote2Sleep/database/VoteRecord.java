@@ -0,0 +1,32 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.util.UUID;
+
+/**
+ * A single vote of a skip event, detached from any Bukkit objects so it can be written off-thread
+ */
+public final class VoteRecord {
+
+    private final UUID playerUuid;
+    private final String playerName;
+    private final long voteTimeMillis;
+    private final double x;
+    private final double y;
+    private final double z;
+
+    public VoteRecord(UUID playerUuid, String playerName, long voteTimeMillis, double x, double y, double z) {
+        this.playerUuid = playerUuid;
+        this.playerName = playerName;
+        this.voteTimeMillis = voteTimeMillis;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public UUID getPlayerUuid() { return playerUuid; }
+    public String getPlayerName() { return playerName; }
+    public long getVoteTimeMillis() { return voteTimeMillis; }
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getZ() { return z; }
+}
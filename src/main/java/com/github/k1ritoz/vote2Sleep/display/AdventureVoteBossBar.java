@@ -0,0 +1,88 @@
+package com.github.k1ritoz.vote2Sleep.display;
+
+import com.github.k1ritoz.vote2Sleep.utils.ComponentMessages;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.bukkit.World;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adventure boss bar (Paper and forks); shown through the player and world audiences
+ */
+class AdventureVoteBossBar extends VoteBossBar {
+
+    // The configuration uses Bukkit names; map them once instead of on every update
+    private static final Map<BarColor, BossBar.Color> COLORS = new EnumMap<>(BarColor.class);
+    private static final Map<BarStyle, BossBar.Overlay> OVERLAYS = new EnumMap<>(BarStyle.class);
+
+    static {
+        COLORS.put(BarColor.PINK, BossBar.Color.PINK);
+        COLORS.put(BarColor.BLUE, BossBar.Color.BLUE);
+        COLORS.put(BarColor.RED, BossBar.Color.RED);
+        COLORS.put(BarColor.GREEN, BossBar.Color.GREEN);
+        COLORS.put(BarColor.YELLOW, BossBar.Color.YELLOW);
+        COLORS.put(BarColor.PURPLE, BossBar.Color.PURPLE);
+        COLORS.put(BarColor.WHITE, BossBar.Color.WHITE);
+
+        OVERLAYS.put(BarStyle.SOLID, BossBar.Overlay.PROGRESS);
+        OVERLAYS.put(BarStyle.SEGMENTED_6, BossBar.Overlay.NOTCHED_6);
+        OVERLAYS.put(BarStyle.SEGMENTED_10, BossBar.Overlay.NOTCHED_10);
+        OVERLAYS.put(BarStyle.SEGMENTED_12, BossBar.Overlay.NOTCHED_12);
+        OVERLAYS.put(BarStyle.SEGMENTED_20, BossBar.Overlay.NOTCHED_20);
+    }
+
+    private final BossBar bossBar;
+    private String title = "";
+
+    AdventureVoteBossBar(BarColor color, BarStyle style) {
+        this.bossBar = BossBar.bossBar(Component.empty(), 0f, toColor(color), toOverlay(style));
+    }
+
+    private static BossBar.Color toColor(BarColor color) {
+        return COLORS.getOrDefault(color, BossBar.Color.BLUE);
+    }
+
+    private static BossBar.Overlay toOverlay(BarStyle style) {
+        return OVERLAYS.getOrDefault(style, BossBar.Overlay.PROGRESS);
+    }
+
+    @Override
+    public void update(String title, float progress) {
+        if (!title.equals(this.title)) {
+            this.title = title;
+            bossBar.name(ComponentMessages.fromLegacy(title));
+        }
+        // Adventure only notifies viewers when the value actually changes
+        bossBar.progress(progress);
+    }
+
+    @Override
+    public void setStyle(BarColor color, BarStyle style) {
+        bossBar.color(toColor(color));
+        bossBar.overlay(toOverlay(style));
+    }
+
+    @Override
+    protected void showTo(Player player) {
+        player.showBossBar(bossBar);
+    }
+
+    @Override
+    protected void hideFrom(Player player) {
+        player.hideBossBar(bossBar);
+    }
+
+    @Override
+    protected void showToWorld(World world) {
+        // One call on the world audience instead of one per player
+        world.showBossBar(bossBar);
+        for (Player player : world.getPlayers()) {
+            addViewer(player.getUniqueId());
+        }
+    }
+}
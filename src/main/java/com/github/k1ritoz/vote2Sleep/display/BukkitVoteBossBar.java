@@ -0,0 +1,74 @@
+package com.github.k1ritoz.vote2Sleep.display;
+
+import org.bukkit.Bukkit;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+
+/**
+ * Boss bar for servers without Adventure (plain Bukkit/Spigot)
+ */
+class BukkitVoteBossBar extends VoteBossBar {
+
+    private final BossBar bossBar;
+    private String title = "";
+    private float progress = -1f;
+
+    BukkitVoteBossBar(BarColor color, BarStyle style) {
+        this.bossBar = Bukkit.createBossBar("", color, style);
+    }
+
+    @Override
+    public void update(String title, float progress) {
+        if (!title.equals(this.title)) {
+            this.title = title;
+            bossBar.setTitle(title);
+        }
+        if (progress != this.progress) {
+            this.progress = progress;
+            bossBar.setProgress(progress);
+        }
+    }
+
+    @Override
+    public void setStyle(BarColor color, BarStyle style) {
+        if (bossBar.getColor() != color) {
+            bossBar.setColor(color);
+        }
+        if (bossBar.getStyle() != style) {
+            bossBar.setStyle(style);
+        }
+    }
+
+    @Override
+    protected void showTo(Player player) {
+        bossBar.addPlayer(player);
+    }
+
+    @Override
+    protected void hideFrom(Player player) {
+        bossBar.removePlayer(player);
+    }
+
+    @Override
+    protected void release(Player player) {
+        // Bukkit bars hold on to every player added to them until they are removed
+        bossBar.removePlayer(player);
+    }
+
+    @Override
+    protected void releaseOffline() {
+        for (Player player : bossBar.getPlayers()) {
+            if (!player.isOnline()) {
+                bossBar.removePlayer(player);
+            }
+        }
+    }
+
+    @Override
+    public void hideAll() {
+        super.hideAll();
+        bossBar.removeAll();
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.k1ritoz.vote2Sleep.display;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.entity.Player;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A world's vote boss bar. Viewers are tracked here and changed incrementally
+ * (join, quit, world change), so updates never diff the world's player list.
+ * Uses Adventure boss bars on Paper and its forks, Bukkit boss bars elsewhere.
+ */
+public abstract class VoteBossBar {
+
+    private static final boolean ADVENTURE = detectAdventure();
+
+    private final Set<UUID> viewers = ConcurrentHashMap.newKeySet();
+    private volatile boolean visible;
+
+    private static boolean detectAdventure() {
+        try {
+            Class<?> audience = Class.forName("net.kyori.adventure.audience.Audience");
+            Class.forName("net.kyori.adventure.bossbar.BossBar");
+            Class.forName("net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer");
+            return audience.isAssignableFrom(Player.class) && audience.isAssignableFrom(World.class);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static VoteBossBar create(BarColor color, BarStyle style) {
+        return ADVENTURE ? new AdventureVoteBossBar(color, style) : new BukkitVoteBossBar(color, style);
+    }
+
+    /**
+     * Sets the title (section-coded text) and progress; unchanged values are not re-sent
+     */
+    public abstract void update(String title, float progress);
+
+    /**
+     * Applies the configured color and style; unchanged values are not re-sent
+     */
+    public abstract void setStyle(BarColor color, BarStyle style);
+
+    protected abstract void showTo(Player player);
+
+    protected abstract void hideFrom(Player player);
+
+    /**
+     * Shows the bar to everyone currently in the world
+     */
+    protected void showToWorld(World world) {
+        for (Player player : world.getPlayers()) {
+            show(player);
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Makes the bar visible to the world's players, or hides it from every viewer
+     */
+    public void setVisible(World world, boolean visible) {
+        if (this.visible == visible) {
+            return;
+        }
+        this.visible = visible;
+
+        if (visible) {
+            showToWorld(world);
+        } else {
+            hideAll();
+        }
+    }
+
+    protected boolean addViewer(UUID playerId) {
+        return viewers.add(playerId);
+    }
+
+    public void show(Player player) {
+        if (visible && viewers.add(player.getUniqueId())) {
+            showTo(player);
+        }
+    }
+
+    public void hide(Player player) {
+        if (viewers.remove(player.getUniqueId())) {
+            hideFrom(player);
+        }
+    }
+
+    /**
+     * Drops a player that left the server; the client no longer needs to be told,
+     * but implementations still let go of any reference they hold to the player
+     */
+    public void forget(Player player) {
+        viewers.remove(player.getUniqueId());
+        release(player);
+    }
+
+    /**
+     * Releases the implementation's own reference to a player that left, if it keeps one
+     */
+    protected void release(Player player) {
+    }
+
+    /**
+     * Releases every player that is no longer online; only used when a quit was missed
+     */
+    protected void releaseOffline() {
+    }
+
+    public boolean isViewing(Player player) {
+        return viewers.contains(player.getUniqueId());
+    }
+
+    public int getViewerCount() {
+        return viewers.size();
+    }
+
+    public void hideAll() {
+        for (UUID playerId : viewers) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                hideFrom(player);
+            }
+        }
+        viewers.clear();
+    }
+
+    /**
+     * Full membership check against the world; only a safety net for missed events.
+     * Returns the number of viewers that had to be corrected.
+     */
+    public int reconcile(World world) {
+        int corrections = 0;
+        boolean missing = false;
+
+        for (UUID playerId : viewers) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null || !visible || !player.getWorld().equals(world)) {
+                viewers.remove(playerId);
+                if (player != null) {
+                    hideFrom(player);
+                } else {
+                    missing = true;
+                }
+                corrections++;
+            }
+        }
+        if (missing) {
+            releaseOffline();
+        }
+
+        if (visible) {
+            for (Player player : world.getPlayers()) {
+                if (viewers.add(player.getUniqueId())) {
+                    showTo(player);
+                    corrections++;
+                }
+            }
+        }
+
+        return corrections;
+    }
+}
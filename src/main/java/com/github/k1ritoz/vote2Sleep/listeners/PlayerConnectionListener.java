@@ -20,6 +20,7 @@ public class PlayerConnectionListener implements Listener {
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        plugin.getEligibilityTracker().update(player);
         plugin.getVoteManager().handlePlayerJoin(player);
     }
 
@@ -27,6 +28,7 @@ public class PlayerConnectionListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
         plugin.getVoteManager().handlePlayerQuit(player);
+        plugin.getEligibilityTracker().handleQuit(player);
     }
 
     @EventHandler
@@ -35,6 +37,7 @@ public class PlayerConnectionListener implements Listener {
         World fromWorld = event.getFrom();
         World toWorld = player.getWorld();
 
+        plugin.getEligibilityTracker().update(player);
         plugin.getVoteManager().handlePlayerChangeWorld(player, fromWorld, toWorld);
     }
 }
\ No newline at end of file
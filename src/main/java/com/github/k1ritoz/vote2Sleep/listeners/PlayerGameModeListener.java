@@ -0,0 +1,22 @@
+package com.github.k1ritoz.vote2Sleep.listeners;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerGameModeChangeEvent;
+
+public class PlayerGameModeListener implements Listener {
+
+    private final Vote2Sleep plugin;
+
+    public PlayerGameModeListener(Vote2Sleep plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onGameModeChange(PlayerGameModeChangeEvent event) {
+        // The player's game mode is only updated after this event, so use the new one
+        plugin.getEligibilityTracker().update(event.getPlayer(), event.getNewGameMode());
+    }
+}
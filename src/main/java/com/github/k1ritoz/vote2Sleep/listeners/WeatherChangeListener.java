@@ -1,6 +1,7 @@
 package com.github.k1ritoz.vote2Sleep.listeners;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.data.WorldState;
 import org.bukkit.World;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -45,11 +46,15 @@ public class WeatherChangeListener implements Listener {
 
     private void handleWeatherClear(World world) {
         // If storm skip is not allowed during night, clear votes when weather clears
-        boolean isNight = world.getTime() >= 12542 && world.getTime() <= 23459;
+        boolean isNight = WorldState.isNightTime(world.getTime());
 
         if (!isNight && !plugin.getConfigManager().isStormSkipAllowed()) {
             plugin.getVoteManager().clearVotes(world);
             plugin.getMessageManager().sendWorldMessage(world, "weather-cleared-votes-cancelled");
+            return;
         }
+
+        // The storm may have been the only reason sleeping was possible
+        plugin.getVoteManager().recheckSleepWindow(world);
     }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.github.k1ritoz.vote2Sleep.listeners;
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import org.bukkit.World;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.world.TimeSkipEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 
@@ -20,6 +22,9 @@ public class WorldEventListener implements Listener {
         World world = event.getWorld();
         plugin.getLogger().info("World loaded: " + world.getName());
 
+        // Key the world's settings by UUID now that it is loaded
+        plugin.getConfigManager().publishSnapshot();
+
         // Initialize world data if needed
         if (plugin.getConfigManager().isWorldEnabled(world)) {
             plugin.getLogger().info("Vote2Sleep is enabled for world: " + world.getName());
@@ -32,7 +37,20 @@ public class WorldEventListener implements Listener {
 
         // Clear any pending votes and tasks for this world
         plugin.getVoteManager().clearVotes(world);
+        plugin.getEligibilityTracker().handleWorldUnload(world);
 
         plugin.getLogger().info("World unloaded: " + world.getName());
     }
-}
\ No newline at end of file
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTimeSkip(TimeSkipEvent event) {
+        World world = event.getWorld();
+
+        if (!plugin.getConfigManager().isWorldEnabled(world)) {
+            return;
+        }
+
+        // Time jumped (command, vanilla sleep, other plugins); the predicted night end moved
+        plugin.getVoteManager().recheckSleepWindow(world);
+    }
+}
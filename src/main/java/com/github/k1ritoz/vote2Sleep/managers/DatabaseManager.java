@@ -2,18 +2,43 @@ package com.github.k1ritoz.vote2Sleep.managers;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import com.github.k1ritoz.vote2Sleep.data.SleepVote;
+import com.github.k1ritoz.vote2Sleep.database.FlatFileStatisticsStore;
+import com.github.k1ritoz.vote2Sleep.database.InMemoryStatisticsStore;
+import com.github.k1ritoz.vote2Sleep.database.MySqlStatisticsStore;
+import com.github.k1ritoz.vote2Sleep.database.SkipEventRecord;
+import com.github.k1ritoz.vote2Sleep.database.SqliteStatisticsStore;
+import com.github.k1ritoz.vote2Sleep.database.StatisticsStore;
+import com.github.k1ritoz.vote2Sleep.database.StorageException;
+import com.github.k1ritoz.vote2Sleep.database.VoteRecord;
 import org.bukkit.World;
 
-import java.io.File;
-import java.sql.*;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DatabaseManager {
 
+    // Pending skip events; the writer thread drains it so skips never wait on disk I/O
+    private static final int QUEUE_CAPACITY = 256;
+    // Upper bound of skip events committed in a single transaction
+    private static final int MAX_BATCH_SIZE = 32;
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000L;
+
     private final Vote2Sleep plugin;
-    private Connection connection;
+    private final BlockingQueue<SkipEventRecord> writeQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    // Skip events that arrived while the queue was full; written after the queue, in order
+    private final Queue<SkipEventRecord> overflow = new ConcurrentLinkedQueue<>();
+    // Skip events the store failed to write
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private StatisticsStore store;
     private boolean enabled;
+    private volatile boolean running;
+    private Thread writerThread;
 
     public DatabaseManager(Vote2Sleep plugin) {
         this.plugin = plugin;
@@ -43,155 +68,195 @@ public class DatabaseManager {
             return;
         }
 
-        try {
-            if ("SQLITE".equalsIgnoreCase(dbType)) {
-                setupSQLite();
-            } else if ("MYSQL".equalsIgnoreCase(dbType)) {
-                setupMySQL();
-            } else {
-                plugin.getLogger().warning("Unknown database type: " + dbType + ", falling back to SQLite");
-                setupSQLite();
-            }
+        store = createStore(dbType);
 
-            createTables();
-            plugin.getLogger().info("Database connection established (" + dbType + ")");
+        try {
+            store.initialize();
+            startWriter();
+            plugin.getLogger().info("Statistics storage ready (" + store.getName() + ")");
 
-        } catch (SQLException e) {
+        } catch (StorageException e) {
             plugin.getLogger().severe("Failed to initialize database: " + e.getMessage());
             this.enabled = false;
+            store.close();
+            store = null;
         }
     }
 
-    private void setupSQLite() throws SQLException {
-        File dataFolder = plugin.getDataFolder();
-        if (!dataFolder.exists()) {
-            dataFolder.mkdirs();
-        }
+    /**
+     * Picks the backend configured in advanced.database.type
+     */
+    private StatisticsStore createStore(String dbType) {
+        String type = dbType != null ? dbType.toUpperCase() : "SQLITE";
 
-        String url = "jdbc:sqlite:" + dataFolder.getAbsolutePath() + "/vote2sleep.db";
-        connection = DriverManager.getConnection(url);
+        switch (type) {
+            case "SQLITE":
+                return new SqliteStatisticsStore(plugin);
+            case "MYSQL":
+            case "MARIADB":
+                return new MySqlStatisticsStore(plugin);
+            case "FILE":
+                return new FlatFileStatisticsStore(plugin);
+            case "MEMORY":
+                return new InMemoryStatisticsStore();
+            default:
+                plugin.getLogger().warning("Unknown database type: " + dbType + ", falling back to SQLite");
+                return new SqliteStatisticsStore(plugin);
+        }
     }
 
-    private void setupMySQL() throws SQLException {
-        // MySQL configuration would go here
-        // For now, fallback to SQLite
-        plugin.getLogger().info("MySQL support not yet implemented, falling back to SQLite");
-        setupSQLite();
+    private void startWriter() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "Vote2Sleep-DatabaseWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
     }
 
-    private void createTables() throws SQLException {
-        String createSkipEventsTable = """
-            CREATE TABLE IF NOT EXISTS skip_events (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                world_name TEXT NOT NULL,
-                world_uuid TEXT NOT NULL,
-                skip_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                voter_count INTEGER NOT NULL,
-                skip_type TEXT NOT NULL
-            )
-        """;
-
-        String createVotesTable = """
-            CREATE TABLE IF NOT EXISTS votes (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                skip_event_id INTEGER,
-                player_uuid TEXT NOT NULL,
-                player_name TEXT NOT NULL,
-                vote_time TIMESTAMP NOT NULL,
-                location_x REAL,
-                location_y REAL,
-                location_z REAL,
-                FOREIGN KEY (skip_event_id) REFERENCES skip_events (id)
-            )
-        """;
-
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute(createSkipEventsTable);
-            stmt.execute(createVotesTable);
+    /**
+     * Queues a skip event for the writer thread. Everything the writer needs is copied
+     * here, on the thread that performed the skip, so no Bukkit state is read off-thread.
+     */
+    public void saveSkipEvent(World world, List<SleepVote> votes) {
+        if (!enabled || store == null || !running) {
+            return;
+        }
+
+        List<VoteRecord> voteRecords = new ArrayList<>(votes.size());
+        for (SleepVote vote : votes) {
+            voteRecords.add(new VoteRecord(vote.getPlayerUUID(), vote.getPlayerName(), vote.getTimestampMillis(),
+                    vote.getX(), vote.getY(), vote.getZ()));
         }
-    }
 
-    public void saveSkipEvent(World world, List<SleepVote> votes) {
-        if (!enabled || connection == null) {
+        SkipEventRecord record = new SkipEventRecord(world.getName(), world.getUID(),
+                System.currentTimeMillis(), plugin.getWorldStateSnapshot().get(world).getSkipType(), voteRecords);
+
+        // Never block the skip: when the writer falls this far behind, the event spills to the
+        // overflow, and later events follow it there until the writer has caught up
+        if (overflow.isEmpty() && writeQueue.offer(record)) {
             return;
         }
+        boolean firstSpill = overflow.isEmpty();
+        overflow.add(record);
+        if (firstSpill) {
+            plugin.getLogger().warning("Database write queue is full, buffering skip events until the writer catches up");
+        }
+    }
 
-        try {
-            // Insert skip event
-            String insertSkipEvent = """
-                INSERT INTO skip_events (world_name, world_uuid, voter_count, skip_type)
-                VALUES (?, ?, ?, ?)
-            """;
-
-            int skipEventId;
-            try (PreparedStatement stmt = connection.prepareStatement(insertSkipEvent, Statement.RETURN_GENERATED_KEYS)) {
-                stmt.setString(1, world.getName());
-                stmt.setString(2, world.getUID().toString());
-                stmt.setInt(3, votes.size());
-                stmt.setString(4, determineSkipType(world));
-
-                stmt.executeUpdate();
-
-                try (ResultSet keys = stmt.getGeneratedKeys()) {
-                    if (keys.next()) {
-                        skipEventId = keys.getInt(1);
-                    } else {
-                        plugin.getLogger().warning("Failed to get generated key for skip event");
-                        return;
-                    }
+    private void runWriter() {
+        List<SkipEventRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (running || !writeQueue.isEmpty() || !overflow.isEmpty()) {
+            try {
+                SkipEventRecord first = writeQueue.poll();
+                if (first == null) {
+                    first = overflow.poll();
+                }
+                if (first == null) {
+                    first = writeQueue.poll(1, TimeUnit.SECONDS);
+                }
+                if (first == null) {
+                    store.maintain();
+                    continue;
                 }
-            }
 
-            // Insert individual votes
-            String insertVote = """
-                INSERT INTO votes (skip_event_id, player_uuid, player_name, vote_time, location_x, location_y, location_z)
-                VALUES (?, ?, ?, ?, ?, ?, ?)
-            """;
-
-            try (PreparedStatement stmt = connection.prepareStatement(insertVote)) {
-                for (SleepVote vote : votes) {
-                    stmt.setInt(1, skipEventId);
-                    stmt.setString(2, vote.getPlayerUUID().toString());
-                    stmt.setString(3, vote.getPlayerName());
-                    stmt.setTimestamp(4, Timestamp.valueOf(vote.getTimestamp()));
-                    stmt.setDouble(5, vote.getLocation().getX());
-                    stmt.setDouble(6, vote.getLocation().getY());
-                    stmt.setDouble(7, vote.getLocation().getZ());
-
-                    stmt.addBatch();
+                batch.add(first);
+                writeQueue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                drainOverflow(batch, MAX_BATCH_SIZE);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // close() interrupts to wake us up; the loop condition decides whether to stop
+                if (!running) {
+                    Thread.currentThread().interrupt();
+                    break;
                 }
-                stmt.executeBatch();
+            } finally {
+                batch.clear();
             }
+        }
 
-            plugin.getLogger().info("Saved skip event with " + votes.size() + " votes to database");
+        // Flush anything queued after an interrupt
+        writeQueue.drainTo(batch);
+        drainOverflow(batch, Integer.MAX_VALUE);
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
 
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to save skip event to database: " + e.getMessage());
+    private void drainOverflow(List<SkipEventRecord> batch, int maxBatchSize) {
+        SkipEventRecord record;
+        while (batch.size() < maxBatchSize && (record = overflow.poll()) != null) {
+            batch.add(record);
         }
     }
 
-    private String determineSkipType(World world) {
-        boolean isNight = world.getTime() >= 12542 && world.getTime() <= 23459;
-        boolean isStormy = world.hasStorm() || world.isThundering();
+    private void writeBatch(List<SkipEventRecord> batch) {
+        try {
+            store.appendAll(batch);
 
-        if (isNight && isStormy) return "NIGHT_STORM";
-        if (isNight) return "NIGHT";
-        if (isStormy) return "STORM";
-        return "UNKNOWN";
+            if (plugin.getConfigManager().isDebugMode()) {
+                int voteCount = 0;
+                for (SkipEventRecord record : batch) {
+                    voteCount += record.getVotes().size();
+                }
+                plugin.getLogger().info("Saved " + batch.size() + " skip event(s) with " + voteCount + " votes to " + store.getName());
+            }
+        } catch (StorageException e) {
+            long dropped = droppedEvents.addAndGet(batch.size());
+            plugin.getLogger().warning(e.getMessage() + " (" + batch.size() + " skip event(s) not saved, "
+                    + dropped + " in total)");
+        }
     }
 
     public boolean isEnabled() {
         return enabled;
     }
 
+    /**
+     * The active statistics backend, or null when statistics are disabled.
+     * Its queries may block on I/O and must be run off the server thread.
+     */
+    public StatisticsStore getStore() {
+        return store;
+    }
+
+    /**
+     * Skip events lost because the store failed to write them
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Skip events waiting for the writer, including those spilled past the queue
+     */
+    public int getPendingEventCount() {
+        return writeQueue.size() + overflow.size();
+    }
+
+    /**
+     * Stops the writer after it has flushed every queued skip event, then closes the store
+     */
     public void close() {
-        if (connection != null) {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
             try {
-                connection.close();
-                plugin.getLogger().info("Database connection closed");
-            } catch (SQLException e) {
-                plugin.getLogger().warning("Error closing database connection: " + e.getMessage());
+                writerThread.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (writerThread.isAlive()) {
+                plugin.getLogger().warning("Database writer did not finish in time, "
+                        + getPendingEventCount() + " skip event(s) were not saved");
             }
+            writerThread = null;
+        }
+
+        if (store != null) {
+            store.close();
+            store = null;
+            plugin.getLogger().info("Database connection closed");
         }
     }
-}
\ No newline at end of file
+}
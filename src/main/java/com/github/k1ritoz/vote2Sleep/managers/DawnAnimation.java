@@ -0,0 +1,102 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Frame clock of one dawn animation: maps the wall time elapsed since its first frame to
+ * a frame and the eased world time of that frame. Under lag frames are dropped so the
+ * animation still ends on time.
+ */
+final class DawnAnimation {
+
+    private final long startTime;
+    private final long timeToAdvance;
+    private final int totalFrames;
+    private final long durationNanos;
+    // Frames skipped less than this late are tick jitter around the timer period, not lag
+    private final long dropGraceNanos;
+    private final AtomicLong droppedFrames;
+    private long startNanos = -1L;
+    private int frame = -1;
+
+    DawnAnimation(long startTime, long timeToAdvance, int totalFrames, long durationNanos, long periodNanos,
+                  AtomicLong droppedFrames) {
+        this.startTime = startTime;
+        this.timeToAdvance = timeToAdvance;
+        this.totalFrames = totalFrames;
+        this.durationNanos = durationNanos;
+        this.dropGraceNanos = periodNanos + periodNanos / 2;
+        this.droppedFrames = droppedFrames;
+    }
+
+    /**
+     * Moves to the frame due at the given time; false if that frame is already shown
+     */
+    boolean advance(long now) {
+        if (startNanos < 0L) {
+            startNanos = now;
+        }
+
+        long elapsed = now - startNanos;
+        // Frame 0 is the start; the last frame is due once the full duration has passed
+        int due = elapsed >= durationNanos ? totalFrames : (int) (elapsed * totalFrames / durationNanos);
+
+        if (due <= frame) {
+            return false;
+        }
+        if (frame >= 0 && due > frame + 1) {
+            // Only skipped frames that were due well before the timer's nominal cadence count
+            long lateElapsed = elapsed - dropGraceNanos;
+            int late = lateElapsed > 0L ? (int) Math.min(due - 1, lateElapsed * totalFrames / durationNanos) : frame;
+            if (late > frame) {
+                droppedFrames.addAndGet(late - frame);
+            }
+        }
+        frame = due;
+        return true;
+    }
+
+    boolean isComplete() {
+        return frame >= totalFrames;
+    }
+
+    double getProgress() {
+        return (double) frame / totalFrames;
+    }
+
+    int getFrameCount() {
+        return totalFrames;
+    }
+
+    long getWorldTime() {
+        return (startTime + Math.round(timeToAdvance * Easing.at(getProgress()))) % 24000;
+    }
+
+    /**
+     * Ease-in-out curve sampled once; frames read it instead of evaluating cos() per frame
+     */
+    static final class Easing {
+
+        private static final int RESOLUTION = 256;
+        private static final double[] TABLE = new double[RESOLUTION + 1];
+
+        static {
+            for (int i = 0; i <= RESOLUTION; i++) {
+                TABLE[i] = 0.5 - 0.5 * Math.cos(Math.PI * i / RESOLUTION);
+            }
+        }
+
+        private Easing() {
+        }
+
+        static double at(double progress) {
+            double position = Math.max(0.0, Math.min(1.0, progress)) * RESOLUTION;
+            int index = (int) position;
+            if (index >= RESOLUTION) {
+                return TABLE[RESOLUTION];
+            }
+            double fraction = position - index;
+            return TABLE[index] + (TABLE[index + 1] - TABLE[index]) * fraction;
+        }
+    }
+}
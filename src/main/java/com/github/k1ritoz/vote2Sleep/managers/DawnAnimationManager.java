@@ -1,16 +1,20 @@
 package com.github.k1ritoz.vote2Sleep.managers;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.data.WorldState;
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskHandle;
+import com.github.k1ritoz.vote2Sleep.utils.MessageArgs;
+import com.github.k1ritoz.vote2Sleep.utils.Placeholder;
+import com.github.k1ritoz.vote2Sleep.utils.WorldBroadcast;
 import org.bukkit.*;
-import org.bukkit.boss.BarColor;
-import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages dawn animation effects when sleep voting is successful
@@ -18,8 +22,12 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DawnAnimationManager {
 
     private final Vote2Sleep plugin;
-    private final Map<UUID, BukkitTask> activeAnimations;
+    private final Map<UUID, TaskHandle> activeAnimations;
     private final Map<UUID, BossBar> animationBossBars;
+    // Run once an animation reaches its last frame; dropped if the animation is stopped
+    private final Map<UUID, Runnable> completionCallbacks;
+    // Frames skipped because the server could not keep up, across all animations
+    private final AtomicLong droppedFrames = new AtomicLong();
 
     // Thread-safe operations for Folia
     private final Object animationLock = new Object();
@@ -28,21 +36,25 @@ public class DawnAnimationManager {
         this.plugin = plugin;
         this.activeAnimations = new ConcurrentHashMap<>();
         this.animationBossBars = new ConcurrentHashMap<>();
+        this.completionCallbacks = new ConcurrentHashMap<>();
     }
 
     /**
      * Starts the dawn animation for a world (only for night skip)
      * Thread-safe for Folia
+     *
+     * @param onComplete run on the global thread once the animation has set the day
+     * @return false if no animation was started, in which case onComplete never runs
      */
-    public void startDawnAnimation(World world) {
+    public boolean startDawnAnimation(World world, Runnable onComplete) {
         if (!plugin.getConfigManager().isDawnAnimationEnabled()) {
-            return;
+            return false;
         }
 
         // Thread-safe check and start
         synchronized (animationLock) {
             if (activeAnimations.containsKey(world.getUID())) {
-                return;
+                return false;
             }
 
             // Only animate for night skip, not storm skip
@@ -50,7 +62,7 @@ public class DawnAnimationManager {
                 if (plugin.getConfigManager().isDebugMode()) {
                     plugin.getLogger().info("Dawn animation skipped - not night time");
                 }
-                return;
+                return false;
             }
 
             if (plugin.getConfigManager().isDebugMode()) {
@@ -68,61 +80,63 @@ public class DawnAnimationManager {
                 }
             }, 1L);
 
+            completionCallbacks.put(world.getUID(), onComplete);
             startTimeAcceleration(world);
+            return true;
         }
     }
 
     /**
-     * Starts efficient time acceleration animation
+     * Starts the time acceleration. Frames are picked from the wall time elapsed since the
+     * first frame, so under lag frames are dropped and the animation still ends on time.
      */
     private void startTimeAcceleration(World world) {
         int duration = Math.max(1, Math.min(plugin.getConfigManager().getDawnAnimationDuration(), 30));
-        int totalSteps = Math.max(8, Math.min(plugin.getConfigManager().getDawnAnimationSteps(), 256));
+        // Fewer, larger steps while the server is shedding load
+        int stepDivisor = plugin.getLoadSheddingManager().getTier(world).getDawnStepDivisor();
+        int totalSteps = Math.max(8, Math.min(plugin.getConfigManager().getDawnAnimationSteps(), 256) / stepDivisor);
+        // At most one frame per tick can be shown; more would only count as dropped
+        totalSteps = (int) Math.min(totalSteps, duration * 20L);
 
         // Calculate time progression
         long startTime = world.getTime();
         long endTime = 1000L; // Day time
         long totalTimeToAdvance = calculateTimeDistance(startTime, endTime);
 
-        // CRITICAL: Calculate ticks per step based on DURATION, not steps
+        // Nominal tick rate of the frames; lag only makes the timer run less often
         long ticksPerStep = Math.max((duration * 20L) / totalSteps, 1L);
-        long timePerStep = Math.max(totalTimeToAdvance / totalSteps, 10);
 
         if (plugin.getConfigManager().isDebugMode()) {
             plugin.getLogger().info("Dawn animation: " + totalTimeToAdvance + " time units over " +
-                    totalSteps + " steps in " + duration + " seconds (" + timePerStep + " time per step, " +
-                    ticksPerStep + " ticks per step)");
+                    totalSteps + " frames in " + duration + " seconds (" + ticksPerStep + " ticks per frame)");
         }
 
         // Create visual effects after clearing votes
         plugin.getPlatformAdapter().runTaskLater(() -> {
             createAnimationVisuals(world);
-        }, 3L);
+        }, 3L).ownedBy(this);
 
-        final int[] currentStep = {0};
-        final long finalTimePerStep = timePerStep;
-        final int finalTotalSteps = totalSteps;
+        DawnAnimation animation = new DawnAnimation(startTime, totalTimeToAdvance, totalSteps,
+                TimeUnit.SECONDS.toNanos(duration), TimeUnit.MILLISECONDS.toNanos(ticksPerStep * 50L),
+                droppedFrames);
 
         // Use world-specific timer task
-        BukkitTask animationTask = plugin.getPlatformAdapter().runTaskTimerForWorld(world, (w) -> {
-            if (currentStep[0] >= finalTotalSteps) {
+        TaskHandle animationTask = plugin.getPlatformAdapter().runTaskTimerForWorld(world, (w) -> {
+            if (animation.advance(System.nanoTime())) {
+                performFrame(w, animation);
+            }
+            if (animation.isComplete()) {
                 finalizeDawnAnimation(w);
-                return;
             }
-
-            performTimeStep(w, startTime, finalTimePerStep, currentStep[0], finalTotalSteps);
-            currentStep[0]++;
-
-        }, 5L, ticksPerStep); // Start after visual effects are created
+        }, 5L, ticksPerStep).ownedBy(this); // Start after visual effects are created
 
         activeAnimations.put(world.getUID(), animationTask);
     }
 
     /**
-     * Performs a single time acceleration step
+     * Shows the animation's current frame
      */
-    private void performTimeStep(World world, long startTime, long timePerStep,
-                                 long currentStep, int totalSteps) {
+    private void performFrame(World world, DawnAnimation animation) {
 
         // Ensure animation is still active (thread-safe check)
         if (!activeAnimations.containsKey(world.getUID())) {
@@ -130,19 +144,15 @@ public class DawnAnimationManager {
         }
 
         try {
-            // Calculate and set new time directly in world task
-            long newTime = (startTime + (timePerStep * (currentStep + 1))) % 24000;
-            world.setTime(newTime);
-
-            // Update progress immediately
-            double progress = (double) (currentStep + 1) / totalSteps;
-            updateAnimationProgress(world, progress);
+            world.setTime(animation.getWorldTime());
+            updateAnimationProgress(world, animation.getProgress(), animation.getFrameCount());
 
         } catch (Exception e) {
             if (plugin.getConfigManager().isDebugMode()) {
-                plugin.getLogger().warning("Error during dawn animation time step: " + e.getMessage());
+                plugin.getLogger().warning("Error during dawn animation frame: " + e.getMessage());
             }
-            stopDawnAnimation(world);
+            // Jump straight to the day so the skip still completes
+            finalizeDawnAnimation(world);
         }
     }
 
@@ -161,30 +171,30 @@ public class DawnAnimationManager {
         }
 
         // Play initial sound
-        if (plugin.getConfigManager().areSoundsEnabled()) {
-            playDawnSound(world, plugin.getConfigManager().getDawnSound());
+        if (plugin.getConfigManager().areSoundsEnabled() && plugin.getLoadSheddingManager().getTier(world).allowsSounds()) {
+            playDawnSound(world, plugin.getConfigManager().getSettings().getDawnSound());
         }
     }
 
     /**
      * Updates animation progress efficiently
      */
-    private void updateAnimationProgress(World world, double progress) {
+    private void updateAnimationProgress(World world, double progress, int totalFrames) {
         // Update boss bar
         BossBar bossBar = animationBossBars.get(world.getUID());
         if (bossBar != null) {
             bossBar.setProgress(Math.min(progress, 1.0));
 
             String title = plugin.getMessageManager().getMessage("dawn-animation-progress",
-                    Map.of("progress", String.valueOf((int)(progress * 100))));
+                    MessageArgs.of(Placeholder.PROGRESS, (int) (progress * 100)));
             bossBar.setTitle(title);
         }
 
         // Spawn particles occasionally and only near players
-        int totalSteps = plugin.getConfigManager().getDawnAnimationSteps();
-        double particleChance = Math.max(0.1, Math.min(0.6, 10.0 / totalSteps));
+        double particleChance = Math.max(0.1, Math.min(0.6, 10.0 / totalFrames));
 
-        if (plugin.getConfigManager().isDawnParticlesEnabled() && Math.random() < particleChance) {
+        if (plugin.getConfigManager().isDawnParticlesEnabled() && Math.random() < particleChance
+                && plugin.getLoadSheddingManager().getTier(world).allowsParticles()) {
             spawnDawnParticles(world);
         }
     }
@@ -193,19 +203,13 @@ public class DawnAnimationManager {
      * Spawns dawn-themed particles efficiently
      */
     private void spawnDawnParticles(World world) {
-        String particleType = plugin.getConfigManager().getDawnParticleType();
+        Particle particle = plugin.getConfigManager().getSettings().getDawnParticle();
 
         // Only spawn particles around players
         for (Player player : world.getPlayers()) {
             if (Math.random() < 0.6) { // 60% chance per player
                 Location loc = player.getLocation().add(0, 2, 0);
-
-                try {
-                    Particle particle = Particle.valueOf(particleType.toUpperCase());
-                    world.spawnParticle(particle, loc, 3, 1.5, 0.8, 1.5, 0.05);
-                } catch (IllegalArgumentException e) {
-                    world.spawnParticle(Particle.ENCHANT, loc, 3, 1.5, 0.8, 1.5, 0.05);
-                }
+                world.spawnParticle(particle, loc, 3, 1.5, 0.8, 1.5, 0.05);
             }
         }
     }
@@ -217,8 +221,8 @@ public class DawnAnimationManager {
         String title = plugin.getMessageManager().getMessage("dawn-animation-title");
         BossBar bossBar = Bukkit.createBossBar(
                 title,
-                BarColor.valueOf(plugin.getConfigManager().getDawnBossBarColor()),
-                BarStyle.valueOf(plugin.getConfigManager().getDawnBossBarStyle())
+                plugin.getConfigManager().getSettings().getDawnBossBarColor(),
+                plugin.getConfigManager().getSettings().getDawnBossBarStyle()
         );
 
         for (Player player : world.getPlayers()) {
@@ -233,43 +237,37 @@ public class DawnAnimationManager {
      * Sends animation title
      */
     private void sendAnimationTitle(World world, String messageKey) {
-        if (!plugin.getConfigManager().areTitlesEnabled()) {
+        if (!plugin.getConfigManager().areTitlesEnabled() || !plugin.getLoadSheddingManager().getTier(world).allowsTitles()) {
             return;
         }
 
         String title = plugin.getMessageManager().getMessage(messageKey + "-title");
         String subtitle = plugin.getMessageManager().getMessage(messageKey + "-subtitle");
 
-        for (Player player : world.getPlayers()) {
-            player.sendTitle(title, subtitle, 10, 40, 10);
-        }
+        WorldBroadcast.title(world, title, subtitle, 10, 40, 10);
     }
 
     /**
      * Plays dawn animation sound
      */
-    private void playDawnSound(World world, String soundName) {
-        try {
-            Sound sound = Sound.valueOf(soundName);
-            for (Player player : world.getPlayers()) {
-                player.playSound(player.getLocation(), sound, 0.6f, 1.1f);
-            }
-        } catch (IllegalArgumentException e) {
-            // Fallback sound
-            for (Player player : world.getPlayers()) {
-                player.playSound(player.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.6f, 1.1f);
-            }
-        }
+    private void playDawnSound(World world, Sound sound) {
+        WorldBroadcast.sound(world, sound, 0.6f, 1.1f);
     }
 
     /**
      * Finalizes the dawn animation - Fixed for Folia
      */
     private void finalizeDawnAnimation(World world) {
+        Runnable onComplete;
         // Thread-safe cleanup
         synchronized (animationLock) {
+            onComplete = completionCallbacks.remove(world.getUID());
             stopDawnAnimation(world);
         }
+        if (onComplete == null) {
+            // Already finalized or stopped
+            return;
+        }
 
         // Final world operations
         try {
@@ -287,6 +285,9 @@ public class DawnAnimationManager {
             }
         }
 
+        // The skip completes on the global thread, once the day is set
+        plugin.getPlatformAdapter().runTaskLater(onComplete, 1L);
+
         // Schedule completion effects on global thread
         plugin.getPlatformAdapter().runTaskLater(() -> {
             try {
@@ -296,15 +297,16 @@ public class DawnAnimationManager {
                 }
 
                 // Play final sound
-                if (plugin.getConfigManager().areSoundsEnabled()) {
-                    playDawnSound(world, plugin.getConfigManager().getDawnFinalSound());
+                if (plugin.getConfigManager().areSoundsEnabled() && plugin.getLoadSheddingManager().getTier(world).allowsSounds()) {
+                    playDawnSound(world, plugin.getConfigManager().getSettings().getDawnFinalSound());
                 }
 
                 // Send completion message
                 plugin.getMessageManager().sendWorldMessage(world, "dawn-animation-complete");
 
                 if (plugin.getConfigManager().isDebugMode()) {
-                    plugin.getLogger().info("Dawn animation completed for world: " + world.getName());
+                    plugin.getLogger().info("Dawn animation completed for world: " + world.getName()
+                            + " (" + droppedFrames.get() + " frames dropped under lag so far)");
                 }
             } catch (Exception e) {
                 if (plugin.getConfigManager().isDebugMode()) {
@@ -326,8 +328,7 @@ public class DawnAnimationManager {
      * Checks if it's night time
      */
     private boolean isNight(World world) {
-        long time = world.getTime();
-        return time >= 12542 && time <= 23459;
+        return WorldState.isNightTime(world.getTime());
     }
 
     /**
@@ -335,8 +336,9 @@ public class DawnAnimationManager {
      */
     public void stopDawnAnimation(World world) {
         synchronized (animationLock) {
-            BukkitTask task = activeAnimations.remove(world.getUID());
-            if (task != null && !task.isCancelled()) {
+            completionCallbacks.remove(world.getUID());
+            TaskHandle task = activeAnimations.remove(world.getUID());
+            if (task != null) {
                 task.cancel();
             }
 
@@ -361,11 +363,8 @@ public class DawnAnimationManager {
      */
     public void cleanup() {
         synchronized (animationLock) {
-            for (BukkitTask task : activeAnimations.values()) {
-                if (!task.isCancelled()) {
-                    task.cancel();
-                }
-            }
+            // Animation timers and their pending visuals
+            plugin.getPlatformAdapter().cancelAll(this);
 
             for (BossBar bossBar : animationBossBars.values()) {
                 bossBar.removeAll();
@@ -373,6 +372,7 @@ public class DawnAnimationManager {
 
             activeAnimations.clear();
             animationBossBars.clear();
+            completionCallbacks.clear();
         }
     }
 
@@ -398,4 +398,11 @@ public class DawnAnimationManager {
     public void handlePlayerQuit(Player player) {
         // Boss bars automatically remove players when they disconnect
     }
-}
\ No newline at end of file
+
+    /**
+     * Frames skipped to keep dawn animations on time, since the plugin was enabled
+     */
+    public long getDroppedFrameCount() {
+        return droppedFrames.get();
+    }
+}
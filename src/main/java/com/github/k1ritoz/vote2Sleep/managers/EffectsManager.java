@@ -1,7 +1,9 @@
 package com.github.k1ritoz.vote2Sleep.managers;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.data.LoadTier;
 import com.github.k1ritoz.vote2Sleep.data.SleepVote;
+import com.github.k1ritoz.vote2Sleep.utils.WorldBroadcast;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 
@@ -16,34 +18,30 @@ public class EffectsManager {
     }
 
     public void playVoteEffects(World world, Player voter) {
+        LoadTier tier = plugin.getLoadSheddingManager().getTier(world);
+
         // Sound effect
-        if (plugin.getConfigManager().areSoundsEnabled()) {
-            playSound(world, plugin.getConfigManager().getVoteSound());
+        if (plugin.getConfigManager().areSoundsEnabled() && tier.allowsSounds()) {
+            playSound(world, plugin.getConfigManager().getSettings().getVoteSound());
         }
 
         // Particle effect around voter (only if particle effects are enabled)
-        if (plugin.getConfigManager().areParticleEffectsEnabled() && voter.isOnline()) {
+        if (plugin.getConfigManager().areParticleEffectsEnabled() && tier.allowsParticles() && voter.isOnline()) {
             Location loc = voter.getLocation();
             world.spawnParticle(Particle.HAPPY_VILLAGER, loc.add(0, 1, 0), 10, 0.5, 0.5, 0.5, 0.1);
         }
-
-        // Action bar for all players
-        if (plugin.getConfigManager().isActionBarEnabled()) {
-            for (Player player : world.getPlayers()) {
-                plugin.getMessageManager().sendActionBar(player, "vote-cast-actionbar",
-                        java.util.Map.of("player", voter.getName()));
-            }
-        }
     }
 
     public void playSkipEffects(World world, List<SleepVote> votes, boolean wasNight) {
+        LoadTier tier = plugin.getLoadSheddingManager().getTier(world);
+
         // Sound effect
-        if (plugin.getConfigManager().areSoundsEnabled()) {
-            playSound(world, plugin.getConfigManager().getSkipSound());
+        if (plugin.getConfigManager().areSoundsEnabled() && tier.allowsSounds()) {
+            playSound(world, plugin.getConfigManager().getSettings().getSkipSound());
         }
 
         // Title effect (only if title are enabled)
-        if (plugin.getConfigManager().areTitlesEnabled()) {
+        if (plugin.getConfigManager().areTitlesEnabled() && tier.allowsTitles()) {
             int fadeIn = plugin.getConfigManager().getTitleFadeIn();
             int stay = plugin.getConfigManager().getTitleStay();
             int fadeOut = plugin.getConfigManager().getTitleFadeOut();
@@ -53,24 +51,21 @@ public class EffectsManager {
             String subtitle = wasNight ? plugin.getMessageManager().getMessage("skip-subtitle")
                     : plugin.getMessageManager().getMessage("storm-skip-subtitle");
 
-            for (Player player : world.getPlayers()) {
-                player.sendTitle(title, subtitle, fadeIn, stay, fadeOut);
-            }
+            WorldBroadcast.title(world, title, subtitle, fadeIn, stay, fadeOut);
         }
 
 
         // Particle effects at voting locations (only if particle effects are enabled)
-        if (plugin.getConfigManager().areParticleEffectsEnabled()) {
+        if (plugin.getConfigManager().areParticleEffectsEnabled() && tier.allowsParticles()) {
             for (SleepVote vote : votes) {
-                Location loc = vote.getLocation();
-                if (loc.getWorld().equals(world)) {
-                    world.spawnParticle(Particle.END_ROD, loc.add(0, 2, 0), 20, 1, 1, 1, 0.1);
+                if (vote.isInWorld(world)) {
+                    world.spawnParticle(Particle.END_ROD, vote.getX(), vote.getY() + 2, vote.getZ(), 20, 1, 1, 1, 0.1);
                 }
             }
         }
 
         // Lightning effect (visual only)
-        if (plugin.getConfigManager().isLightningOnSkipEnabled()) {
+        if (plugin.getConfigManager().isLightningOnSkipEnabled() && tier.allowsLightning()) {
             double lightningChance = plugin.getConfigManager().getLightningChance();
 
             for (Player player : world.getPlayers()) {
@@ -83,7 +78,7 @@ public class EffectsManager {
                     }
                 }
             }
-        } else {
+        } else if (!plugin.getConfigManager().isLightningOnSkipEnabled()) {
             // Optional: Send message explaining why lightning is disabled
             if (plugin.getConfigManager().isDebugMode()) {
                 plugin.getLogger().info("Lightning effects are disabled to prevent 'Surge Protector' achievement");
@@ -91,19 +86,8 @@ public class EffectsManager {
         }
     }
 
-    private void playSound(World world, String soundName) {
-        try {
-            Sound sound = Sound.valueOf(soundName);
-            for (Player player : world.getPlayers()) {
-                player.playSound(player.getLocation(), sound, 1.0f, 1.0f);
-            }
-        } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("Invalid sound name: " + soundName);
-            // Fallback to default sound
-            for (Player player : world.getPlayers()) {
-                player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f);
-            }
-        }
+    private void playSound(World world, Sound sound) {
+        WorldBroadcast.sound(world, sound, 1.0f, 1.0f);
     }
 
     public void cleanup() {
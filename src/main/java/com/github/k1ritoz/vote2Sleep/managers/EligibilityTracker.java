@@ -0,0 +1,187 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskHandle;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a per-world index of players that are allowed to vote, so the
+ * required vote count can be read without scanning every player in the world.
+ */
+public class EligibilityTracker {
+
+    // Safety net for permission plugins that don't announce recalculations
+    private static final long RESYNC_INTERVAL = 30 * 20L;
+    private static final long RESYNC_JITTER = 5 * 20L;
+
+    private final Vote2Sleep plugin;
+    private final Map<UUID, Set<UUID>> eligibleByWorld;
+    private final Map<UUID, UUID> playerWorlds;
+    private TaskHandle resyncTask;
+
+    public EligibilityTracker(Vote2Sleep plugin) {
+        this.plugin = plugin;
+        this.eligibleByWorld = new ConcurrentHashMap<>();
+        this.playerWorlds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Populates the index from the online players and starts the periodic resync
+     */
+    public void start() {
+        rebuild();
+
+        resyncTask = plugin.getPlatformAdapter().runTaskTimerWithJitter(() -> {
+            pruneOffline();
+            plugin.getPlatformAdapter().runForEach(Bukkit.getOnlinePlayers(), this::update, 1L,
+                    plugin.getConfigManager().getSkipSpreadTicks());
+        }, RESYNC_INTERVAL, RESYNC_INTERVAL, RESYNC_JITTER);
+    }
+
+    /**
+     * Drops players whose quit was missed, so the index cannot keep growing
+     */
+    private void pruneOffline() {
+        playerWorlds.entrySet().removeIf(entry -> {
+            UUID playerId = entry.getKey();
+            if (Bukkit.getPlayer(playerId) != null) {
+                return false;
+            }
+
+            plugin.getExemptionService().invalidate(playerId);
+            Set<UUID> eligible = eligibleByWorld.get(entry.getValue());
+            if (eligible != null) {
+                eligible.remove(playerId);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Rebuilds the whole index (used on enable and after configuration reloads)
+     */
+    public void rebuild() {
+        // Exemption rules may have changed; cached answers are recomputed below or on demand
+        plugin.getExemptionService().invalidateAll();
+
+        // Re-evaluate in place so concurrent readers never observe an empty index
+        Set<UUID> online = new HashSet<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            online.add(player.getUniqueId());
+            update(player);
+        }
+
+        playerWorlds.keySet().retainAll(online);
+        for (Set<UUID> eligible : eligibleByWorld.values()) {
+            eligible.retainAll(online);
+        }
+
+        if (plugin.getConfigManager().isDebugMode()) {
+            plugin.getLogger().info("Eligibility index rebuilt for " + playerWorlds.size() + " players");
+        }
+    }
+
+    /**
+     * Re-evaluates a player in their current world
+     */
+    public void update(Player player) {
+        update(player, player.getGameMode());
+    }
+
+    /**
+     * Re-evaluates a player in their current world using the given game mode
+     * (game mode change events fire before the player's mode is updated).
+     * Players that went offline before a delayed update ran are ignored.
+     */
+    public void update(Player player, GameMode gameMode) {
+        if (!player.isOnline()) {
+            return;
+        }
+
+        UUID playerId = player.getUniqueId();
+        UUID worldId = player.getWorld().getUID();
+
+        UUID previousWorld = playerWorlds.put(playerId, worldId);
+        if (previousWorld != null && !previousWorld.equals(worldId)) {
+            Set<UUID> previous = eligibleByWorld.get(previousWorld);
+            if (previous != null) {
+                previous.remove(playerId);
+            }
+        }
+
+        Set<UUID> eligible = eligibleByWorld.computeIfAbsent(worldId, k -> ConcurrentHashMap.newKeySet());
+        if (plugin.getExemptionService().refresh(player, gameMode)) {
+            eligible.remove(playerId);
+        } else {
+            eligible.add(playerId);
+        }
+    }
+
+    /**
+     * Removes a player that left the server
+     */
+    public void handleQuit(Player player) {
+        UUID playerId = player.getUniqueId();
+        plugin.getExemptionService().invalidate(playerId);
+        UUID worldId = playerWorlds.remove(playerId);
+        if (worldId != null) {
+            Set<UUID> eligible = eligibleByWorld.get(worldId);
+            if (eligible != null) {
+                eligible.remove(playerId);
+            }
+        }
+    }
+
+    /**
+     * Handles a permission recalculation announced by a permissions plugin
+     */
+    public void handlePermissionChange(UUID playerId) {
+        plugin.getExemptionService().invalidate(playerId);
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null && player.isOnline()) {
+            plugin.getPlatformAdapter().runTaskLaterForPlayer(player, this::update, 1L);
+        }
+    }
+
+    /**
+     * Drops the index of an unloaded world
+     */
+    public void handleWorldUnload(World world) {
+        eligibleByWorld.remove(world.getUID());
+        playerWorlds.values().removeIf(worldId -> worldId.equals(world.getUID()));
+    }
+
+    public int getEligibleCount(World world) {
+        Set<UUID> eligible = eligibleByWorld.get(world.getUID());
+        return eligible != null ? eligible.size() : 0;
+    }
+
+    public boolean isEligible(Player player) {
+        Set<UUID> eligible = eligibleByWorld.get(player.getWorld().getUID());
+        return eligible != null && eligible.contains(player.getUniqueId());
+    }
+
+    public boolean isExempt(Player player) {
+        return plugin.getExemptionService().isExempt(player);
+    }
+
+    public void shutdown() {
+        if (resyncTask != null) {
+            resyncTask.cancel();
+            resyncTask = null;
+        }
+
+        eligibleByWorld.clear();
+        playerWorlds.clear();
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single source of truth for vote exemptions. The answer is cached per online
+ * player and recomputed when their game mode or permissions change, or when
+ * the configuration is reloaded.
+ */
+public class ExemptionService {
+
+    private final Vote2Sleep plugin;
+    private final Map<UUID, Boolean> exemptPlayers;
+
+    public ExemptionService(Vote2Sleep plugin) {
+        this.plugin = plugin;
+        this.exemptPlayers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Whether the player is exempt from voting. Safe to call from any thread.
+     */
+    public boolean isExempt(Player player) {
+        Boolean cached = exemptPlayers.get(player.getUniqueId());
+        if (cached != null) {
+            return cached;
+        }
+        return refresh(player, player.getGameMode());
+    }
+
+    /**
+     * Recomputes the player's exemption using the given game mode
+     * (game mode change events fire before the player's mode is updated)
+     */
+    public boolean refresh(Player player, GameMode gameMode) {
+        boolean exempt = compute(player, gameMode);
+        exemptPlayers.put(player.getUniqueId(), exempt);
+        return exempt;
+    }
+
+    /**
+     * Forgets the cached answer; the next lookup recomputes it
+     */
+    public void invalidate(UUID playerId) {
+        exemptPlayers.remove(playerId);
+    }
+
+    /**
+     * Forgets every cached answer (used after configuration reloads)
+     */
+    public void invalidateAll() {
+        exemptPlayers.clear();
+    }
+
+    private boolean compute(Player player, GameMode gameMode) {
+        // Check game mode exemptions
+        if (plugin.getConfigManager().getSettings().isExemptGameMode(gameMode)) {
+            return true;
+        }
+
+        // Check permission exemptions
+        for (String permission : plugin.getConfigManager().getExemptPermissions()) {
+            if (player.hasPermission(permission)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
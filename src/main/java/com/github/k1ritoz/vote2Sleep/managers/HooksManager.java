@@ -2,6 +2,15 @@ package com.github.k1ritoz.vote2Sleep.managers;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public class HooksManager {
 
@@ -9,7 +18,12 @@ public class HooksManager {
     private boolean placeholderAPIHooked = false;
     private boolean worldGuardHooked = false;
     private boolean essentialsHooked = false;
+    private boolean luckPermsHooked = false;
     private Vote2SleepPlaceholders placeholderExpansion = null;
+    private AutoCloseable luckPermsSubscription = null;
+
+    // PlaceholderAPI.setPlaceholders(Player, String), resolved once per hook initialization
+    private volatile MethodHandle setPlaceholdersHandle = null;
 
     public HooksManager(Vote2Sleep plugin) {
         this.plugin = plugin;
@@ -30,6 +44,7 @@ public class HooksManager {
 
                     // Try to register with error handling
                     if (placeholderExpansion.register()) {
+                        setPlaceholdersHandle = resolveSetPlaceholders();
                         placeholderAPIHooked = true;
                         plugin.getLogger().info("Successfully hooked into PlaceholderAPI");
                     } else {
@@ -76,10 +91,113 @@ public class HooksManager {
             }
         }
 
+        // LuckPerms - permission recalculations keep the eligibility index current
+        if (Bukkit.getPluginManager().getPlugin("LuckPerms") != null) {
+            try {
+                if (Bukkit.getPluginManager().isPluginEnabled("LuckPerms")) {
+                    hookLuckPerms();
+                    luckPermsHooked = true;
+                    plugin.getLogger().info("LuckPerms detected - permission changes are tracked");
+                } else {
+                    plugin.getLogger().info("LuckPerms found but not enabled");
+                }
+            } catch (Exception e) {
+                plugin.getLogger().warning("Failed to hook into LuckPerms: " + e.getMessage());
+            }
+        }
+
         // Log final hook status
         plugin.getLogger().info("Hooks initialized - PlaceholderAPI: " + placeholderAPIHooked +
                 ", WorldGuard: " + worldGuardHooked +
-                ", Essentials: " + essentialsHooked);
+                ", Essentials: " + essentialsHooked +
+                ", LuckPerms: " + luckPermsHooked);
+    }
+
+    /**
+     * Subscribes to LuckPerms' UserDataRecalculateEvent through reflection to avoid a hard dependency
+     */
+    private void hookLuckPerms() throws Exception {
+        Class<?> providerClass = Class.forName("net.luckperms.api.LuckPermsProvider");
+        Class<?> luckPermsClass = Class.forName("net.luckperms.api.LuckPerms");
+        Class<?> eventBusClass = Class.forName("net.luckperms.api.event.EventBus");
+        Class<?> eventClass = Class.forName("net.luckperms.api.event.user.UserDataRecalculateEvent");
+        Class<?> userClass = Class.forName("net.luckperms.api.model.user.User");
+
+        Method getUser = eventClass.getMethod("getUser");
+        Method getUniqueId = userClass.getMethod("getUniqueId");
+
+        Object luckPerms = providerClass.getMethod("get").invoke(null);
+        Object eventBus = luckPermsClass.getMethod("getEventBus").invoke(luckPerms);
+
+        Consumer<Object> handler = event -> {
+            try {
+                Object user = getUser.invoke(event);
+                UUID playerId = (UUID) getUniqueId.invoke(user);
+                if (plugin.getEligibilityTracker() != null) {
+                    plugin.getEligibilityTracker().handlePermissionChange(playerId);
+                }
+            } catch (Exception e) {
+                if (plugin.getConfigManager().isDebugMode()) {
+                    plugin.getLogger().warning("Error handling LuckPerms recalculation: " + e.getMessage());
+                }
+            }
+        };
+
+        luckPermsSubscription = (AutoCloseable) eventBusClass
+                .getMethod("subscribe", Object.class, Class.class, Consumer.class)
+                .invoke(eventBus, plugin, eventClass, handler);
+    }
+
+    /**
+     * Looks up PlaceholderAPI.setPlaceholders once so message sends don't pay for reflection
+     */
+    private MethodHandle resolveSetPlaceholders() {
+        MethodType type = MethodType.methodType(String.class, Player.class, String.class);
+        try {
+            Class<?> placeholderAPIClass = Class.forName("me.clip.placeholderapi.PlaceholderAPI");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            try {
+                return lookup.findStatic(placeholderAPIClass, "setPlaceholders", type);
+            } catch (NoSuchMethodException e) {
+                // Older releases only expose the OfflinePlayer variant
+                return lookup.findStatic(placeholderAPIClass, "setPlaceholders",
+                        MethodType.methodType(String.class, OfflinePlayer.class, String.class)).asType(type);
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("Could not resolve PlaceholderAPI.setPlaceholders: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Resolves PlaceholderAPI placeholders in the message, returning it unchanged if the hook is unavailable
+     */
+    public String setPlaceholders(Player player, String message) {
+        MethodHandle handle = setPlaceholdersHandle;
+        if (handle == null) {
+            return message;
+        }
+
+        try {
+            return (String) handle.invokeExact(player, message);
+        } catch (Throwable e) {
+            // Only log if debug mode is enabled to avoid spam
+            if (plugin.getConfigManager().isDebugMode()) {
+                plugin.getLogger().warning("Error processing PlaceholderAPI placeholders: " + e.getMessage());
+            }
+            return message;
+        }
+    }
+
+    private void unhookLuckPerms() {
+        if (luckPermsSubscription != null) {
+            try {
+                luckPermsSubscription.close();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error unsubscribing from LuckPerms: " + e.getMessage());
+            }
+            luckPermsSubscription = null;
+        }
     }
 
     /**
@@ -95,10 +213,14 @@ public class HooksManager {
             }
         }
 
+        unhookLuckPerms();
+
         // Reset states
+        setPlaceholdersHandle = null;
         placeholderAPIHooked = false;
         worldGuardHooked = false;
         essentialsHooked = false;
+        luckPermsHooked = false;
         placeholderExpansion = null;
 
         // Re-initialize
@@ -130,6 +252,10 @@ public class HooksManager {
         return essentialsHooked;
     }
 
+    public boolean isLuckPermsHooked() {
+        return luckPermsHooked;
+    }
+
     public Vote2SleepPlaceholders getPlaceholderExpansion() {
         return placeholderExpansion;
     }
@@ -138,6 +264,8 @@ public class HooksManager {
      * Cleanup method for plugin shutdown
      */
     public void cleanup() {
+        setPlaceholdersHandle = null;
+
         if (placeholderExpansion != null) {
             try {
                 placeholderExpansion.unregister();
@@ -146,5 +274,7 @@ public class HooksManager {
                 plugin.getLogger().warning("Error unregistering PlaceholderAPI expansion: " + e.getMessage());
             }
         }
+
+        unhookLuckPerms();
     }
 }
\ No newline at end of file
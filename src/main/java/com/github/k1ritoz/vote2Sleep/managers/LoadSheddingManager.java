@@ -0,0 +1,134 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.config.ConfigSnapshot;
+import com.github.k1ritoz.vote2Sleep.data.LoadTier;
+import com.github.k1ritoz.vote2Sleep.data.TickHealth;
+import com.github.k1ritoz.vote2Sleep.platform.FoliaAdapter;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Picks the {@link LoadTier} from the measured tick time each time the health monitor
+ * publishes a sample. Tiers are entered as soon as their threshold is reached and left
+ * one at a time, once the load has stayed below threshold minus hysteresis for
+ * recovery-seconds. On Folia each world also gets a tier from its region's TPS.
+ * Measured tick times are compared with the *-mspt thresholds; where MSPT is estimated
+ * from tick intervals, the time a tick ran late is compared with the *-lag-ms ones.
+ */
+public class LoadSheddingManager {
+
+    // Interval-based MSPT never drops below the 50 ms tick budget; only the time beyond it is lag
+    private static final double TICK_BUDGET_MSPT = 50.0;
+
+    private final Vote2Sleep plugin;
+    private final Consumer<TickHealth> healthListener = this::evaluate;
+    private final LoadTierState global = new LoadTierState();
+    private final Map<UUID, LoadTierState> worldTiers = new ConcurrentHashMap<>();
+    // Most severe tier since metrics last read it
+    private final AtomicInteger worstSinceReport = new AtomicInteger();
+    private final AtomicInteger tierChanges = new AtomicInteger();
+
+    public LoadSheddingManager(Vote2Sleep plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        plugin.getServerHealthMonitor().addListener(healthListener);
+    }
+
+    public void shutdown() {
+        if (plugin.getServerHealthMonitor() != null) {
+            plugin.getServerHealthMonitor().removeListener(healthListener);
+        }
+        global.tier = LoadTier.NORMAL;
+        worldTiers.clear();
+    }
+
+    private void evaluate(TickHealth health) {
+        ConfigSnapshot settings = plugin.getConfigManager().getSettings();
+        if (!settings.isLoadSheddingEnabled()) {
+            global.tier = LoadTier.NORMAL;
+            worldTiers.clear();
+            return;
+        }
+
+        LoadTier previous = global.tier;
+        if (update(global, health.getMsptP95(), health.isEstimated(), settings)) {
+            onTierChange("server", previous, global.tier, health.getMsptP95());
+        }
+        recordWorst(global.tier);
+
+        // Region TPS turned into the tick time it implies; only lag shows up in it
+        if (plugin.getPlatformAdapter() instanceof FoliaAdapter) {
+            ServerHealthMonitor monitor = plugin.getServerHealthMonitor();
+            for (World world : Bukkit.getWorlds()) {
+                if (!plugin.getConfigManager().isWorldEnabled(world)) {
+                    continue;
+                }
+                double tps = monitor.getTps(world);
+                double mspt = tps > 0.0 ? 1000.0 / tps : Double.MAX_VALUE;
+
+                LoadTierState state = worldTiers.computeIfAbsent(world.getUID(), k -> new LoadTierState());
+                LoadTier worldPrevious = state.tier;
+                if (update(state, mspt, true, settings)) {
+                    onTierChange(world.getName(), worldPrevious, state.tier, mspt);
+                }
+                recordWorst(state.tier);
+            }
+        }
+    }
+
+    /**
+     * Feeds a sample to the state, as lag beyond the tick budget when it was estimated from intervals
+     */
+    private static boolean update(LoadTierState state, double mspt, boolean estimated, ConfigSnapshot settings) {
+        if (estimated) {
+            return state.update(Math.max(0.0, mspt - TICK_BUDGET_MSPT), settings.getLoadSheddingLagThresholds(),
+                    settings.getLoadSheddingRecoverySeconds());
+        }
+        return state.update(mspt, settings.getLoadSheddingMsptThresholds(), settings.getLoadSheddingRecoverySeconds());
+    }
+
+    private void onTierChange(String scope, LoadTier from, LoadTier to, double mspt) {
+        tierChanges.incrementAndGet();
+        plugin.getLogger().info("Load shedding (" + scope + "): " + from + " -> " + to
+                + String.format(" at %.1f ms per tick", mspt));
+    }
+
+    private void recordWorst(LoadTier tier) {
+        worstSinceReport.accumulateAndGet(tier.ordinal(), Math::max);
+    }
+
+    /**
+     * Tier for work that is not tied to a world
+     */
+    public LoadTier getTier() {
+        return global.tier;
+    }
+
+    /**
+     * Tier for cosmetic work in the world; on Folia the stricter of the server's and its region's
+     */
+    public LoadTier getTier(World world) {
+        LoadTierState state = worldTiers.get(world.getUID());
+        return state != null ? global.tier.max(state.tier) : global.tier;
+    }
+
+    /**
+     * Most severe tier reached since the previous call (for metrics)
+     */
+    public LoadTier pollWorstTier() {
+        return LoadTier.values()[worstSinceReport.getAndSet(global.tier.ordinal())];
+    }
+
+    public int getTierChangeCount() {
+        return tierChanges.get();
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import com.github.k1ritoz.vote2Sleep.data.LoadThresholds;
+import com.github.k1ritoz.vote2Sleep.data.LoadTier;
+
+/**
+ * Tier of one load feed (the server, or a Folia region). Tiers are entered as soon as
+ * their threshold is reached and left one at a time, once the load has stayed below the
+ * tier's exit level for the given number of consecutive samples.
+ */
+final class LoadTierState {
+
+    volatile LoadTier tier = LoadTier.NORMAL;
+    // Consecutive samples below the current tier's exit level
+    private int calmSamples;
+
+    /**
+     * Applies one load sample, returning whether the tier changed
+     */
+    boolean update(double load, LoadThresholds thresholds, int recoverySamples) {
+        LoadTier target = LoadTier.NORMAL;
+        for (LoadTier candidate : LoadTier.values()) {
+            if (candidate != LoadTier.NORMAL && load >= thresholds.enter(candidate)) {
+                target = candidate;
+            }
+        }
+
+        if (target.ordinal() > tier.ordinal()) {
+            tier = target;
+            calmSamples = 0;
+            return true;
+        }
+
+        if (tier == LoadTier.NORMAL || load >= thresholds.exit(tier)) {
+            calmSamples = 0;
+            return false;
+        }
+
+        if (++calmSamples < recoverySamples) {
+            return false;
+        }
+        tier = tier.lower();
+        calmSamples = 0;
+        return true;
+    }
+}
@@ -2,7 +2,10 @@ package com.github.k1ritoz.vote2Sleep.managers;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import com.github.k1ritoz.vote2Sleep.config.AutoConfigUpdater;
-import org.bukkit.ChatColor;
+import com.github.k1ritoz.vote2Sleep.utils.MessageArgs;
+import com.github.k1ritoz.vote2Sleep.utils.MessageTemplate;
+import com.github.k1ritoz.vote2Sleep.utils.Placeholder;
+import com.github.k1ritoz.vote2Sleep.utils.WorldBroadcast;
 import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -12,6 +15,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 public class MessageManager {
@@ -23,6 +28,9 @@ public class MessageManager {
     private String currentLanguage;
     private AutoConfigUpdater autoUpdater;
 
+    // Compiled once per load; swapped as a whole on reload or language change
+    private volatile Map<String, MessageTemplate> templates = Map.of();
+
     public MessageManager(Vote2Sleep plugin) {
         this.plugin = plugin;
         this.autoUpdater = new AutoConfigUpdater(plugin);
@@ -45,6 +53,7 @@ public class MessageManager {
         // Reload after update
         this.messages = YamlConfiguration.loadConfiguration(messagesFile);
 
+        compileTemplates();
         this.prefix = getMessage("prefix");
 
         plugin.getLogger().info("Loaded messages for language: " + currentLanguage);
@@ -113,6 +122,8 @@ public class MessageManager {
         if (!messages.contains("already-voted")) messages.set("already-voted", "&cYou have already voted for sleep!");
         if (!messages.contains("vote-removed")) messages.set("vote-removed", "&aYour sleep vote has been removed!");
         if (!messages.contains("vote-cast")) messages.set("vote-cast", "&a{current}&7/&a{required} &7players voted for sleep! &8(&c{remaining} &7remaining)");
+        if (!messages.contains("vote-digest")) messages.set("vote-digest", "&a{player} &7voted for sleep! &8(&a{current}&7/&a{required}&8)");
+        if (!messages.contains("vote-digest-others")) messages.set("vote-digest-others", "&a{player} &7and &a{count} others &7voted for sleep! &8(&a{current}&7/&a{required}&8)");
         if (!messages.contains("skip-countdown")) messages.set("skip-countdown", "&eNight will be skipped in &a{seconds} &eseconds...");
         if (!messages.contains("vote-timeout")) messages.set("vote-timeout", "&cSleep vote has timed out!");
         if (!messages.contains("night-skipped")) messages.set("night-skipped", "&aThe night has been skipped! Sweet dreams! &f✨");
@@ -154,6 +165,10 @@ public class MessageManager {
         if (!messages.contains("stats.server-tps")) messages.set("stats.server-tps", "&7Server TPS: &a{tps}");
         if (!messages.contains("stats.database-status")) messages.set("stats.database-status", "&7Database: {status}");
         if (!messages.contains("stats.total-skips")) messages.set("stats.total-skips", "&7Total Night Skips: &e{skips}");
+        if (!messages.contains("stats.skips-by-type")) messages.set("stats.skips-by-type", "&7  {type}: &e{skips}");
+        if (!messages.contains("stats.world-skips")) messages.set("stats.world-skips", "&7Skips in {world}: &e{skips}");
+        if (!messages.contains("stats.your-votes")) messages.set("stats.your-votes", "&7Your Votes: &e{count}");
+        if (!messages.contains("stats.database-queue")) messages.set("stats.database-queue", "&7Database Queue: &e{count} &7pending, &e{dropped} &7failed");
 
         // Command help
         if (!messages.contains("help.header")) messages.set("help.header", "&b&l=== Vote2Sleep Help ===");
@@ -175,121 +190,185 @@ public class MessageManager {
         if (!messages.contains("skip-subtitle")) messages.set("skip-subtitle", "&eSleep tight! &f✨");
     }
 
-    public String getMessage(String key) {
-        String message = messages.getString(key, key);
-        return ChatColor.translateAlternateColorCodes('&', message);
-    }
-
-    public String getMessage(String key, Map<String, String> placeholders) {
-        String message = getMessage(key);
+    /**
+     * Compiles every message in the loaded file into a template
+     */
+    private void compileTemplates() {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        for (String key : messages.getKeys(true)) {
+            if (messages.isConfigurationSection(key)) {
+                continue;
+            }
 
-        // Replace custom placeholders first
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                message = message.replace("{" + entry.getKey() + "}", entry.getValue());
+            Object value = messages.get(key);
+            if (value != null) {
+                compiled.put(key, MessageTemplate.compile(value.toString()));
             }
         }
+        this.templates = compiled;
+    }
 
-        return message;
+    public MessageTemplate getTemplate(String key) {
+        return templates.get(key);
+    }
+
+    public String getMessage(String key) {
+        MessageTemplate template = templates.get(key);
+        return template != null ? template.getText() : key;
+    }
+
+    public String getMessage(String key, MessageArgs args) {
+        MessageTemplate template = templates.get(key);
+        return template != null ? template.render(args) : key;
+    }
+
+    public String getMessage(String key, Map<String, String> placeholders) {
+        MessageTemplate template = templates.get(key);
+        return template != null ? template.render(placeholders) : key;
     }
 
     public String processPlaceholders(Player player, String message) {
-        // Process PlaceholderAPI placeholders if available
-        if (plugin.getHooksManager().isPlaceholderAPIHooked()) {
-            try {
-                // Use reflection to avoid hard dependency
-                Class<?> placeholderAPIClass = Class.forName("me.clip.placeholderapi.PlaceholderAPI");
-                java.lang.reflect.Method setPlaceholdersMethod = placeholderAPIClass.getMethod("setPlaceholders", Player.class, String.class);
-                message = (String) setPlaceholdersMethod.invoke(null, player, message);
-            } catch (Exception e) {
-                // Only log if debug mode is enabled to avoid spam
-                if (plugin.getConfigManager().isDebugMode()) {
-                    plugin.getLogger().warning("Error processing PlaceholderAPI placeholders: " + e.getMessage());
-                }
-            }
+        // Only hand the message to PlaceholderAPI if it can contain a %placeholder%
+        if (message.indexOf('%') < 0 || !plugin.getHooksManager().isPlaceholderAPIHooked()) {
+            return message;
         }
-        return message;
+        return plugin.getHooksManager().setPlaceholders(player, message);
+    }
+
+    private boolean usesPlaceholderApi(String key) {
+        MessageTemplate template = templates.get(key);
+        return template != null && template.usesPlaceholderApi();
     }
 
     public void sendMessage(Player player, String key) {
-        String message = getMessage(key);
-        if (!message.isEmpty() && !message.equals(key)) {
-            message = processPlaceholders(player, message);
-            player.sendMessage(prefix + message);
-        }
+        sendMessage(player, key, (MessageArgs) null);
+    }
+
+    public void sendMessage(Player player, String key, MessageArgs args) {
+        deliver(player, key, getMessage(key, args));
     }
 
     public void sendMessage(Player player, String key, Map<String, String> placeholders) {
-        String message = getMessage(key, placeholders);
+        deliver(player, key, getMessage(key, placeholders));
+    }
+
+    private void deliver(Player player, String key, String message) {
         if (!message.isEmpty() && !message.equals(key)) {
-            message = processPlaceholders(player, message);
+            if (usesPlaceholderApi(key)) {
+                message = processPlaceholders(player, message);
+            }
             player.sendMessage(prefix + message);
         }
     }
 
     public void sendWorldMessage(World world, String key) {
-        String message = getMessage(key);
-        if (!message.isEmpty() && !message.equals(key)) {
+        sendWorldMessage(world, key, (MessageArgs) null);
+    }
+
+    public void sendWorldMessage(World world, String key, MessageArgs args) {
+        broadcast(world, key, getMessage(key, args));
+    }
+
+    public void sendWorldMessage(World world, String key, Map<String, String> placeholders) {
+        broadcast(world, key, getMessage(key, placeholders));
+    }
+
+    private void broadcast(World world, String key, String message) {
+        if (message.isEmpty() || message.equals(key)) {
+            return;
+        }
+
+        // Only PlaceholderAPI tokens make a message differ between recipients
+        if (usesPlaceholderApi(key) && plugin.getHooksManager().isPlaceholderAPIHooked()) {
             for (Player player : world.getPlayers()) {
-                String processedMessage = processPlaceholders(player, message);
-                player.sendMessage(prefix + processedMessage);
+                player.sendMessage(prefix + processPlaceholders(player, message));
             }
+            return;
         }
+
+        // Built and serialized once for the whole world
+        WorldBroadcast.message(world, prefix + message);
     }
 
-    public void sendWorldMessage(World world, String key, Map<String, String> placeholders) {
-        String message = getMessage(key, placeholders);
-        if (!message.isEmpty() && !message.equals(key)) {
-            for (Player player : world.getPlayers()) {
-                String processedMessage = processPlaceholders(player, message);
-                player.sendMessage(prefix + processedMessage);
+    /**
+     * Sends a message to the given players, rendering it once unless it carries
+     * per-player PlaceholderAPI tokens
+     */
+    public void sendMessage(Collection<? extends Player> players, String key, MessageArgs args) {
+        String message = getMessage(key, args);
+        if (players.isEmpty() || message.isEmpty() || message.equals(key)) {
+            return;
+        }
+
+        if (usesPlaceholderApi(key) && plugin.getHooksManager().isPlaceholderAPIHooked()) {
+            for (Player player : players) {
+                player.sendMessage(prefix + processPlaceholders(player, message));
             }
+            return;
         }
+
+        WorldBroadcast.message(players, prefix + message);
     }
 
     public String getBossBarTitle(int current, int required) {
-        String title = getMessage("boss-bar-title", Map.of(
-                "current", String.valueOf(current),
-                "required", String.valueOf(required)
-        ));
+        String title = getMessage("boss-bar-title", MessageArgs.of(Placeholder.CURRENT, current)
+                .with(Placeholder.REQUIRED, required));
 
-        // For boss bars, we can't easily process per-player placeholders, so use a generic approach
-        if (plugin.getHooksManager().isPlaceholderAPIHooked()) {
-            try {
-                // Use reflection to avoid hard dependency and use null player for global placeholders only
-                Class<?> placeholderAPIClass = Class.forName("me.clip.placeholderapi.PlaceholderAPI");
-                java.lang.reflect.Method setPlaceholdersMethod = placeholderAPIClass.getMethod("setPlaceholders", Player.class, String.class);
-                title = (String) setPlaceholdersMethod.invoke(null, null, title);
-            } catch (Exception e) {
-                // Silently ignore errors for boss bar placeholders
-                if (plugin.getConfigManager().isDebugMode()) {
-                    plugin.getLogger().warning("Error processing boss bar placeholders: " + e.getMessage());
-                }
-            }
+        // For boss bars, we can't easily process per-player placeholders, so use global placeholders only
+        if (usesPlaceholderApi("boss-bar-title")) {
+            title = processPlaceholders(null, title);
         }
 
         return title;
     }
 
     public void sendActionBar(Player player, String key) {
-        sendActionBar(player, key, Map.of());
+        sendActionBar(player, key, (MessageArgs) null);
     }
 
     public void sendActionBar(Player player, String key, Map<String, String> placeholders) {
         if (!plugin.getConfigManager().isActionBarEnabled()) return;
+        if (!plugin.getLoadSheddingManager().getTier(player.getWorld()).allowsActionBars()) return;
+        sendActionBarMessage(player, key, getMessage(key, placeholders));
+    }
 
-        String message = getMessage(key, placeholders);
+    public void sendActionBar(Player player, String key, MessageArgs args) {
+        if (!plugin.getConfigManager().isActionBarEnabled()) return;
+        if (!plugin.getLoadSheddingManager().getTier(player.getWorld()).allowsActionBars()) return;
+        sendActionBarMessage(player, key, getMessage(key, args));
+    }
+
+    /**
+     * Sends an action bar to every player in the world, building the component only once
+     * unless the message contains per-player PlaceholderAPI tokens
+     */
+    public void sendWorldActionBar(World world, String key, MessageArgs args) {
+        if (!plugin.getConfigManager().isActionBarEnabled()) return;
+        if (!plugin.getLoadSheddingManager().getTier(world).allowsActionBars()) return;
+
+        String message = getMessage(key, args);
+        if (message.isEmpty() || message.equals(key)) {
+            return;
+        }
+
+        if (usesPlaceholderApi(key) && plugin.getHooksManager().isPlaceholderAPIHooked()) {
+            for (Player player : world.getPlayers()) {
+                sendActionBarMessage(player, key, message);
+            }
+            return;
+        }
+
+        WorldBroadcast.actionBar(world, message);
+    }
+
+    private void sendActionBarMessage(Player player, String key, String message) {
         if (!message.isEmpty() && !message.equals(key)) {
             // Process PlaceholderAPI placeholders first
-            message = processPlaceholders(player, message);
-
-            try {
-                player.spigot().sendMessage(net.md_5.bungee.api.ChatMessageType.ACTION_BAR,
-                        new net.md_5.bungee.api.chat.TextComponent(message));
-            } catch (Exception e) {
-                // Fallback to chat message if action bar is not supported
-                player.sendMessage(message);
+            if (usesPlaceholderApi(key)) {
+                message = processPlaceholders(player, message);
             }
+
+            WorldBroadcast.actionBar(player, message);
         }
     }
 
@@ -353,6 +432,7 @@ public class MessageManager {
             autoUpdater.updateMessagesIfNeeded(newLanguage);
             this.messages = YamlConfiguration.loadConfiguration(messagesFile);
 
+            compileTemplates();
             this.prefix = getMessage("prefix");
 
             plugin.getLogger().info("Changed language from " + oldLanguage + " to " + newLanguage);
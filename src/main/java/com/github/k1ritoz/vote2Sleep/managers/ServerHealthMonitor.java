@@ -0,0 +1,248 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.data.TickHealth;
+import com.github.k1ritoz.vote2Sleep.platform.FoliaAdapter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Measures how long server ticks take and publishes it once per second as an immutable
+ * {@link TickHealth}, plus the TPS of each enabled world (of its spawn region on Folia).
+ * The stats command, placeholders and load shedding all read from here.
+ *
+ * Tick times come from Paper's own tick timings where the server provides them;
+ * otherwise (Spigot, Folia) the time between two runs of the tick driver is used.
+ */
+public class ServerHealthMonitor {
+
+    // Samples kept for the percentiles (5 seconds at 20 TPS)
+    private static final int WINDOW = 100;
+    // Ticks between two published samples
+    private static final int REFRESH_INTERVAL = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double MAX_TPS = 20.0;
+
+    // Folia: Server#getRegionTPS(Location), looked up once; null where it does not exist
+    private static final MethodHandle REGION_TPS = findRegionTps();
+
+    private final Vote2Sleep plugin;
+    private final Runnable tickListener = this::onTick;
+    private final List<Consumer<TickHealth>> listeners = new CopyOnWriteArrayList<>();
+    private final boolean regionTps;
+
+    // Only touched from the tick driver's thread
+    private final long[] intervals = new long[WINDOW];
+    private final long[] sorted = new long[WINDOW];
+    private int intervalCount;
+    private int nextInterval;
+    private long lastTickNanos;
+    private int ticksUntilRefresh;
+    private boolean paperTickTimes;
+
+    private volatile TickHealth health = TickHealth.IDLE;
+    private volatile Map<UUID, Double> worldTps = Collections.emptyMap();
+
+    public ServerHealthMonitor(Vote2Sleep plugin) {
+        this.plugin = plugin;
+        this.regionTps = REGION_TPS != null && plugin.getPlatformAdapter() instanceof FoliaAdapter;
+    }
+
+    public void start() {
+        paperTickTimes = !(plugin.getPlatformAdapter() instanceof FoliaAdapter) && hasPaperTickTimes();
+        plugin.getTickDriver().addTickListener(tickListener);
+
+        if (plugin.getConfigManager().isDebugMode()) {
+            plugin.getLogger().info("Server health monitor using " + (paperTickTimes ? "server tick times" : "tick intervals")
+                    + (regionTps ? " and Folia region TPS" : ""));
+        }
+    }
+
+    public void shutdown() {
+        if (plugin.getTickDriver() != null) {
+            plugin.getTickDriver().removeTickListener(tickListener);
+        }
+        listeners.clear();
+        health = TickHealth.IDLE;
+        worldTps = Collections.emptyMap();
+    }
+
+    /**
+     * Registers a listener called on the tick driver's thread with every published sample
+     */
+    public void addListener(Consumer<TickHealth> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<TickHealth> listener) {
+        listeners.remove(listener);
+    }
+
+    private void onTick() {
+        long now = System.nanoTime();
+        if (lastTickNanos != 0L) {
+            intervals[nextInterval] = now - lastTickNanos;
+            nextInterval = (nextInterval + 1) % WINDOW;
+            if (intervalCount < WINDOW) {
+                intervalCount++;
+            }
+        }
+        lastTickNanos = now;
+
+        if (--ticksUntilRefresh <= 0) {
+            ticksUntilRefresh = REFRESH_INTERVAL;
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        if (intervalCount == 0) {
+            return;
+        }
+
+        // TPS always comes from the intervals: it is what players experience on every platform
+        long intervalSum = 0L;
+        for (int i = 0; i < intervalCount; i++) {
+            intervalSum += intervals[i];
+        }
+        double tps = Math.min(MAX_TPS, 1_000_000_000.0 * intervalCount / intervalSum);
+
+        long[] source = intervals;
+        int count = intervalCount;
+        if (paperTickTimes) {
+            try {
+                source = Bukkit.getTickTimes();
+                count = source.length;
+            } catch (Throwable t) {
+                paperTickTimes = false;
+            }
+        }
+
+        health = summarize(source, count, tps, !paperTickTimes);
+
+        if (regionTps) {
+            worldTps = sampleWorlds();
+        }
+
+        for (Consumer<TickHealth> listener : listeners) {
+            try {
+                listener.accept(health);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error in server health listener: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Average and percentiles of the non-empty samples
+     */
+    private TickHealth summarize(long[] source, int count, double tps, boolean estimated) {
+        int n = 0;
+        long sum = 0L;
+        for (int i = 0; i < count && n < sorted.length; i++) {
+            if (source[i] > 0L) {
+                sorted[n++] = source[i];
+                sum += source[i];
+            }
+        }
+        if (n == 0) {
+            return health;
+        }
+
+        Arrays.sort(sorted, 0, n);
+        double average = sum / (double) n / NANOS_PER_MILLI;
+        double p50 = sorted[percentileIndex(n, 50)] / NANOS_PER_MILLI;
+        double p95 = sorted[percentileIndex(n, 95)] / NANOS_PER_MILLI;
+
+        return new TickHealth(average, p50, p95, tps, n, estimated, plugin.getTickDriver().getCurrentTick());
+    }
+
+    private static int percentileIndex(int n, int percentile) {
+        return Math.max(0, (n * percentile + 99) / 100 - 1);
+    }
+
+    private Map<UUID, Double> sampleWorlds() {
+        Map<UUID, Double> sampled = new HashMap<>();
+        for (World world : Bukkit.getWorlds()) {
+            if (!plugin.getConfigManager().isWorldEnabled(world)) {
+                continue;
+            }
+            double tps = queryRegionTps(world.getSpawnLocation());
+            if (tps >= 0.0) {
+                sampled.put(world.getUID(), tps);
+            }
+        }
+        return Collections.unmodifiableMap(sampled);
+    }
+
+    /**
+     * TPS of the region owning the location over the last 5 seconds, or -1 if unknown
+     */
+    private double queryRegionTps(Location location) {
+        try {
+            double[] tps = (double[]) REGION_TPS.invoke(Bukkit.getServer(), location);
+            return tps != null && tps.length > 0 ? Math.min(MAX_TPS, tps[0]) : -1.0;
+        } catch (Throwable t) {
+            return -1.0;
+        }
+    }
+
+    public TickHealth getHealth() {
+        return health;
+    }
+
+    /**
+     * TPS of the world; on Folia that of the region around its spawn, elsewhere the server's
+     */
+    public double getTps(World world) {
+        Double tps = worldTps.get(world.getUID());
+        return tps != null ? tps : health.getTps();
+    }
+
+    /**
+     * TPS of the region owning the location on Folia, the server's TPS elsewhere
+     */
+    public double getTps(Location location) {
+        if (regionTps && location.getWorld() != null) {
+            double tps = queryRegionTps(location);
+            if (tps >= 0.0) {
+                return tps;
+            }
+        }
+        return health.getTps();
+    }
+
+    /**
+     * Paper's tick timings; Spigot lacks them and Folia has no single server tick
+     */
+    private static boolean hasPaperTickTimes() {
+        try {
+            return Bukkit.getTickTimes() != null;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findRegionTps() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Server.class, "getRegionTPS",
+                    MethodType.methodType(double[].class, Location.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -4,35 +4,52 @@ import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import com.github.k1ritoz.vote2Sleep.api.events.*;
 import com.github.k1ritoz.vote2Sleep.data.SleepVote;
 import com.github.k1ritoz.vote2Sleep.data.WorldData;
+import com.github.k1ritoz.vote2Sleep.data.WorldState;
+import com.github.k1ritoz.vote2Sleep.display.VoteBossBar;
 import com.github.k1ritoz.vote2Sleep.platform.FoliaAdapter;
 import com.github.k1ritoz.vote2Sleep.platform.PurpurAdapter;
+import com.github.k1ritoz.vote2Sleep.scheduler.TimingWheel;
+import com.github.k1ritoz.vote2Sleep.utils.MessageArgs;
+import com.github.k1ritoz.vote2Sleep.utils.Placeholder;
 import org.bukkit.*;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
-import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class SleepVoteManager {
 
+    // Full boss bar viewer check, only a safety net for missed events
+    private static final long BOSS_BAR_RECONCILE_INTERVAL = 30 * 20L;
+
     private final Vote2Sleep plugin;
     private final Map<UUID, WorldData> worldDataMap;
-    private final Map<UUID, BossBar> worldBossBars;
-    private final Map<UUID, BukkitTask> skipTasks;
-    private final Map<UUID, BukkitTask> voteTimeoutTasks;
-    private final Map<UUID, BukkitTask> nightCheckTasks;
+    private final Map<UUID, VoteBossBar> worldBossBars;
+    private final Map<UUID, WorldTimers> worldTimers;
+    private final VoteDigest voteDigest;
+
+    // Worlds whose boss bar / action bar changed since the last display flush
+    private final Set<UUID> dirtyDisplays;
+    // Latest voter per world whose "voted" action bar is still to be sent
+    private final Map<UUID, String> pendingVoteActionBars;
+    private int ticksSinceFlush;
+    private final TimingWheel.Timeout bossBarReconcile;
 
     public SleepVoteManager(Vote2Sleep plugin) {
         this.plugin = plugin;
         this.worldDataMap = new ConcurrentHashMap<>();
         this.worldBossBars = new ConcurrentHashMap<>();
-        this.skipTasks = new ConcurrentHashMap<>();
-        this.voteTimeoutTasks = new ConcurrentHashMap<>();
-        this.nightCheckTasks = new ConcurrentHashMap<>();
+        this.worldTimers = new ConcurrentHashMap<>();
+        this.dirtyDisplays = ConcurrentHashMap.newKeySet();
+        this.pendingVoteActionBars = new ConcurrentHashMap<>();
+        this.voteDigest = new VoteDigest(plugin);
+
+        plugin.getTickDriver().addTickListener(this::flushDisplays);
+        this.bossBarReconcile = plugin.getTickDriver().newTimeout(this::reconcileBossBars);
+        bossBarReconcile.schedule(BOSS_BAR_RECONCILE_INTERVAL);
     }
 
     /**
@@ -97,7 +114,7 @@ public class SleepVoteManager {
         SleepVote vote = new SleepVote(
                 player.getUniqueId(),
                 player.getName(),
-                LocalDateTime.now(),
+                System.currentTimeMillis(),
                 player.getLocation()
         );
 
@@ -113,8 +130,13 @@ public class SleepVoteManager {
         worldData.addVote(vote);
 
         // Update displays
-        updateBossBar(world);
-        sendVoteMessage(world);
+        markDisplayDirty(world);
+        if (plugin.getConfigManager().isVoteDigestEnabled()) {
+            // Announced together with the other votes of this window
+            voteDigest.recordVote(world, player.getName());
+        } else {
+            sendVoteMessage(world);
+        }
         playVoteEffects(world, player);
 
         // Check if vote requirements are met
@@ -148,7 +170,7 @@ public class SleepVoteManager {
         Bukkit.getPluginManager().callEvent(event);
 
         // Update displays
-        updateBossBar(world);
+        markDisplayDirty(world);
 
         // Cancel skip if no longer enough votes
         if (!areRequirementsMet(world)) {
@@ -159,55 +181,78 @@ public class SleepVoteManager {
     }
 
     /**
-     * Schedules a task to detect when night ends naturally (preventing boss bar stuck bug)
+     * Schedules a check for the tick the night ends naturally (preventing boss bar stuck bug).
+     * Storms have no predictable end; they are re-checked from the weather listener instead.
      */
     private void scheduleNightCheckTask(World world) {
-        cancelNightCheckTask(world);
+        WorldTimers timers = getTimers(world);
 
-        // Check every second if night has ended
-        BukkitTask task = plugin.getPlatformAdapter().runTaskTimerForWorld(world, (w) -> {
-            // If world is no longer enabled, cancel the task
-            if (!plugin.getConfigManager().isWorldEnabled(w)) {
-                cancelNightCheckTask(w);
-                return;
-            }
+        long ticksUntilDawn = getTicksUntilNightEnds(world);
+        if (ticksUntilDawn > 0) {
+            timers.nightCheck.schedule(ticksUntilDawn);
+        } else {
+            timers.nightCheck.cancel();
+        }
+    }
 
-            WorldData worldData = worldDataMap.get(w.getUID());
-            if (worldData == null || worldData.isEmpty()) {
-                cancelNightCheckTask(w);
-                return;
-            }
+    /**
+     * Re-evaluates on the next tick whether sleeping is still possible. Called when the
+     * time is changed externally or the weather clears, since both move the natural end.
+     */
+    public void recheckSleepWindow(World world) {
+        WorldData worldData = worldDataMap.get(world.getUID());
+        if (worldData == null || worldData.isEmpty()) {
+            return;
+        }
 
-            // Check if night has ended naturally
-            if (!canSleep(w)) {
-                // Night/storm has ended naturally, clear all votes and boss bar
-                clearVotes(w);
-                if (plugin.getConfigManager().isDebugMode()) {
-                    plugin.getLogger().info("Natural night/storm end detected in world " + w.getName() + ", clearing votes");
-                }
-            }
-        }, 20L, 20L); // Check every second
+        WorldTimers timers = worldTimers.get(world.getUID());
+        // A pending skip re-checks the requirements itself
+        if (timers != null && !timers.skip.isPending()) {
+            timers.nightCheck.schedule(1L);
+        }
+    }
 
-        nightCheckTasks.put(world.getUID(), task);
+    private long getTicksUntilNightEnds(World world) {
+        long time = world.getTime();
+        if (!plugin.getConfigManager().isNightSkipAllowed() || !WorldState.isNightTime(time)) {
+            return -1L;
+        }
+        return WorldState.NIGHT_END - time + 1;
     }
 
-    private void scheduleNightSkip(World world) {
-        // Cancel existing tasks
-        cancelSkipTask(world);
-        cancelVoteTimeoutTask(world);
-        cancelNightCheckTask(world);
+    private void runNightCheck(World world) {
+        // If world is no longer enabled, stop checking
+        if (!plugin.getConfigManager().isWorldEnabled(world)) {
+            return;
+        }
 
-        int delay = plugin.getConfigManager().getSkipDelaySeconds() * 20;
+        WorldData worldData = worldDataMap.get(world.getUID());
+        if (worldData == null || worldData.isEmpty()) {
+            return;
+        }
 
-        // Use global scheduler for the countdown, but world operations will use region scheduler
-        BukkitTask task = plugin.getPlatformAdapter().runTaskLater(() -> {
-            // Final check before executing skip
-            if (areRequirementsMet(world)) {
-                executeNightSkip(world);
+        // Check if night has ended naturally
+        if (!canSleep(world)) {
+            // Night/storm has ended naturally, clear all votes and boss bar
+            clearVotes(world);
+            if (plugin.getConfigManager().isDebugMode()) {
+                plugin.getLogger().info("Natural night/storm end detected in world " + world.getName() + ", clearing votes");
             }
-        }, delay);
+            return;
+        }
 
-        skipTasks.put(world.getUID(), task);
+        // Still possible (time frozen, or a storm outlasting the night): wait for the next end
+        scheduleNightCheckTask(world);
+    }
+
+    private void scheduleNightSkip(World world) {
+        // Cancel pending deadlines
+        WorldTimers timers = getTimers(world);
+        timers.voteTimeout.cancel();
+        timers.nightCheck.cancel();
+
+        int delay = plugin.getConfigManager().getSkipDelaySeconds() * 20;
+        timers.skip.schedule(delay);
 
         // Send countdown message using global scheduler
         plugin.getPlatformAdapter().runTaskLater(() -> {
@@ -216,26 +261,29 @@ public class SleepVoteManager {
             String skipKey = night ? "skip-countdown" : "storm-skip-countdown";
 
             plugin.getMessageManager().sendWorldMessage(world, skipKey,
-                    Map.of("seconds", String.valueOf(plugin.getConfigManager().getSkipDelaySeconds())));
+                    MessageArgs.of(Placeholder.SECONDS, plugin.getConfigManager().getSkipDelaySeconds()));
         }, 1L);
     }
 
-    private void scheduleVoteTimeout(World world) {
-        cancelVoteTimeoutTask(world);
+    private void runScheduledSkip(World world) {
+        // Final check before executing skip
+        if (areRequirementsMet(world)) {
+            executeNightSkip(world);
+        }
+    }
 
+    private void scheduleVoteTimeout(World world) {
         int timeout = plugin.getConfigManager().getVoteTimeoutSeconds() * 20;
+        getTimers(world).voteTimeout.schedule(timeout);
+    }
 
-        // Use global scheduler for world operations
-        BukkitTask task = plugin.getPlatformAdapter().runTaskLater(() -> {
-            // Check if votes still exist before clearing
-            WorldData worldData = worldDataMap.get(world.getUID());
-            if (worldData != null && !worldData.isEmpty()) {
-                clearVotes(world);
-                plugin.getMessageManager().sendWorldMessage(world, "vote-timeout");
-            }
-        }, timeout);
-
-        voteTimeoutTasks.put(world.getUID(), task);
+    private void runVoteTimeout(World world) {
+        // Check if votes still exist before clearing
+        WorldData worldData = worldDataMap.get(world.getUID());
+        if (worldData != null && !worldData.isEmpty()) {
+            clearVotes(world);
+            plugin.getMessageManager().sendWorldMessage(world, "vote-timeout");
+        }
     }
 
     /**
@@ -245,7 +293,8 @@ public class SleepVoteManager {
         WorldData worldData = worldDataMap.get(world.getUID());
         if (worldData == null) return;
 
-        List<SleepVote> votes = new ArrayList<>(worldData.getVotes().values());
+        List<SleepVote> votes = worldData.snapshotVotes();
+        List<UUID> voterIds = worldData.snapshotVoterIds();
 
         // Fire pre-skip event
         PreNightSkipEvent preEvent = new PreNightSkipEvent(world, votes);
@@ -257,34 +306,32 @@ public class SleepVoteManager {
 
         // Check if we should start dawn animation (only for night skip)
         boolean isNightTime = isNight(world);
+        // Under critical load the night is skipped instantly instead
         boolean shouldAnimate = plugin.getConfigManager().isDawnAnimationEnabled() &&
                 isNightTime &&
-                plugin.getConfigManager().isNightSkipAllowed();
+                plugin.getConfigManager().isNightSkipAllowed() &&
+                plugin.getLoadSheddingManager().getTier(world).allowsDawnAnimation();
 
-        if (shouldAnimate) {
-            if (plugin.getConfigManager().isDebugMode()) {
-                plugin.getLogger().info("Starting dawn animation for night skip in world: " + world.getName());
-            }
+        if (shouldAnimate && plugin.getConfigManager().isDebugMode()) {
+            plugin.getLogger().info("Starting dawn animation for night skip in world: " + world.getName());
+        }
 
-            // Start dawn animation
-            plugin.getDawnAnimationManager().startDawnAnimation(world);
+        // The animation runs the skip actions once it has reached the day
+        boolean animating = shouldAnimate && plugin.getDawnAnimationManager().startDawnAnimation(world, () -> {
+            performSkipActions(world, voterIds, false); // false = don't set time, animation handles it
 
-            // Delay the actual skip actions to let animation handle time progression
-            plugin.getPlatformAdapter().runTaskLater(() -> {
-                performSkipActions(world, votes, false); // false = don't set time, animation handles it
-
-                // Fire post-skip event after animation delay
-                NightSkipEvent skipEvent = new NightSkipEvent(world, votes);
-                Bukkit.getPluginManager().callEvent(skipEvent);
-            }, plugin.getConfigManager().getDawnAnimationDuration() * 20L);
+            // Fire post-skip event once the animation has finished
+            NightSkipEvent skipEvent = new NightSkipEvent(world, votes);
+            Bukkit.getPluginManager().callEvent(skipEvent);
+        });
 
-        } else {
+        if (!animating) {
             if (plugin.getConfigManager().isDebugMode()) {
                 plugin.getLogger().info("Performing immediate skip actions (no animation) for world: " + world.getName());
             }
 
             // Immediately perform skip actions if animation is disabled or it's storm skip
-            performSkipActions(world, votes, true); // true = set time normally
+            performSkipActions(world, voterIds, true); // true = set time normally
 
             // Fire post-skip event immediately
             NightSkipEvent skipEvent = new NightSkipEvent(world, votes);
@@ -303,7 +350,7 @@ public class SleepVoteManager {
     /**
      * Performs the actual skip actions (world operations, player effects, messages)
      */
-    private void performSkipActions(World world, List<SleepVote> votes, boolean shouldSetTime) {
+    private void performSkipActions(World world, List<UUID> voterIds, boolean shouldSetTime) {
         boolean wasNight = isNight(world);
         // WORLD OPERATIONS - For Folia, setTime() and weather must use GLOBAL scheduler
         plugin.getPlatformAdapter().runTaskLaterForWorld(world, (w) -> {
@@ -352,43 +399,48 @@ public class SleepVoteManager {
             }
         }, 1L);
 
-        // PLAYER OPERATIONS - each player needs its own task for Folia
-        for (SleepVote vote : votes) {
-            Player player = Bukkit.getPlayer(vote.getPlayerUUID());
-            if (player != null && player.isOnline()) {
-                plugin.getPlatformAdapter().runTaskLaterForPlayer(player, (p) -> {
-                    try {
-                        // Reset phantom statistics
-                        if (plugin.getConfigManager().shouldResetStatistics()) {
-                            try {
-                                p.setStatistic(Statistic.TIME_SINCE_REST, 0);
-                            } catch (Exception e) {
-                                // Silent fail for older versions
-                            }
-                        }
-
-                        // Heal and feed players
-                        if (plugin.getConfigManager().shouldHealPlayers()) {
-                            p.setHealth(p.getMaxHealth());
-                        }
-                        if (plugin.getConfigManager().shouldFeedPlayers()) {
-                            p.setFoodLevel(20);
-                            p.setSaturation(20.0f);
-                        }
+        // PLAYER OPERATIONS - batched per region on Folia, spread over a few ticks elsewhere
+        // Voters are looked up by the vote map's own keys, one lookup per vote
+        List<Player> voters = new ArrayList<>(voterIds.size());
+        for (UUID voterId : voterIds) {
+            Player player = Bukkit.getPlayer(voterId);
+            if (player != null) {
+                voters.add(player);
+            }
+        }
 
-                        // Use Purpur optimization if available
-                        if (plugin.getPlatformAdapter() instanceof PurpurAdapter) {
-                            ((PurpurAdapter) plugin.getPlatformAdapter()).optimizePlayerOperation(p, () -> {
-                                // Additional Purpur optimizations here if needed
-                            });
-                        }
+        // Delay slightly to ensure world operations complete first
+        plugin.getPlatformAdapter().runForEach(voters, (p) -> {
+            try {
+                // Reset phantom statistics
+                if (plugin.getConfigManager().shouldResetStatistics()) {
+                    try {
+                        p.setStatistic(Statistic.TIME_SINCE_REST, 0);
                     } catch (Exception e) {
-                        plugin.getLogger().warning("Error performing player actions for " + p.getName() + ": " + e.getMessage());
-                        e.printStackTrace();
+                        // Silent fail for older versions
                     }
-                }, 2L); // Delay slightly to ensure world operations complete first
+                }
+
+                // Heal and feed players
+                if (plugin.getConfigManager().shouldHealPlayers()) {
+                    p.setHealth(p.getMaxHealth());
+                }
+                if (plugin.getConfigManager().shouldFeedPlayers()) {
+                    p.setFoodLevel(20);
+                    p.setSaturation(20.0f);
+                }
+
+                // Use Purpur optimization if available
+                if (plugin.getPlatformAdapter() instanceof PurpurAdapter) {
+                    ((PurpurAdapter) plugin.getPlatformAdapter()).optimizePlayerOperation(p, () -> {
+                        // Additional Purpur optimizations here if needed
+                    });
+                }
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error performing player actions for " + p.getName() + ": " + e.getMessage());
+                e.printStackTrace();
             }
-        }
+        }, 2L, plugin.getConfigManager().getSkipSpreadTicks());
 
         // MESSAGES - use global scheduler (only if animation is disabled or it's storm skip)
         if (shouldSetTime) {
@@ -438,219 +490,104 @@ public class SleepVoteManager {
     }
 
     private boolean isPlayerExempt(Player player) {
-        // Check game mode exemptions
-        String gameMode = player.getGameMode().name();
-        if (plugin.getConfigManager().getExemptGameModes().contains(gameMode)) {
-            return true;
-        }
-
-        // Check permission exemptions
-        for (String permission : plugin.getConfigManager().getExemptPermissions()) {
-            if (player.hasPermission(permission)) {
-                return true;
-            }
-        }
-
-        return false;
+        return plugin.getEligibilityTracker().isExempt(player);
     }
 
+    // Vote handling reacts to changes made earlier in the tick, so it reads the world live
     private boolean canSleep(World world) {
-        boolean isNight = isNight(world);
-        boolean isStormy = world.hasStorm() || world.isThundering();
-
-        return (isNight && plugin.getConfigManager().isNightSkipAllowed()) ||
-                (isStormy && plugin.getConfigManager().isStormSkipAllowed());
+        return plugin.getWorldStateSnapshot().canSleepNow(world);
     }
 
     private boolean isNight(World world) {
-        long time = world.getTime();
-        return time >= 12542 && time <= 23459;
+        return WorldState.isNightTime(world.getTime());
     }
 
     private boolean areRequirementsMet(World world) {
         WorldData worldData = worldDataMap.get(world.getUID());
         if (worldData == null) return false;
 
-        int currentVotes = worldData.getVotes().size();
+        int currentVotes = worldData.getVoteCount();
         int requiredVotes = getRequiredVotes(world);
 
         return currentVotes >= requiredVotes;
     }
 
     private int getEligiblePlayerCount(World world) {
-        return (int) world.getPlayers().stream()
-                .filter(p -> !isPlayerExempt(p))
-                .count();
+        return plugin.getEligibilityTracker().getEligibleCount(world);
     }
 
     private void updateBossBar(World world) {
         if (!plugin.getConfigManager().isBossBarEnabled()) {
             // If BossBar was disabled during reload, remove the existing one
-            BossBar existingBar = worldBossBars.remove(world.getUID());
+            VoteBossBar existingBar = worldBossBars.remove(world.getUID());
             if (existingBar != null) {
-                try {
-                    existingBar.removeAll();
-                } catch (Exception e) {
-                    if (plugin.getConfigManager().isDebugMode()) {
-                        plugin.getLogger().warning("Error removing disabled BossBar: " + e.getMessage());
-                    }
-                }
+                existingBar.hideAll();
             }
             return;
         }
 
-        BossBar bossBar = worldBossBars.get(world.getUID());
-
-        // Determine if we need to recreate the BossBar
-        boolean needsRecreation = false;
+        BarColor barColor = plugin.getConfigManager().getSettings().getBossBarColor();
+        BarStyle barStyle = plugin.getConfigManager().getSettings().getBossBarStyle();
 
+        VoteBossBar bossBar = worldBossBars.get(world.getUID());
         if (bossBar == null) {
-            needsRecreation = true;
-        } else {
-            // Check if configuration has changed
-            try {
-                BarColor currentColor = bossBar.getColor();
-                BarStyle currentStyle = bossBar.getStyle();
-
-                BarColor configColor = BarColor.valueOf(plugin.getConfigManager().getBossBarColor());
-                BarStyle configStyle = BarStyle.valueOf(plugin.getConfigManager().getBossBarStyle());
+            bossBar = VoteBossBar.create(barColor, barStyle);
+            worldBossBars.put(world.getUID(), bossBar);
 
-                // If color or style differ, mark for recreation
-                if (currentColor != configColor || currentStyle != configStyle) {
-                    needsRecreation = true;
-                    if (plugin.getConfigManager().isDebugMode()) {
-                        plugin.getLogger().info("BossBar settings changed after reload, recreating for world " + world.getName());
-                    }
-                }
-
-                // Validate existing BossBar by accessing its properties
-                bossBar.getTitle();
-                bossBar.getProgress();
-                bossBar.isVisible();
-
-            } catch (IllegalArgumentException e) {
-                // Invalid configuration values
-                if (plugin.getConfigManager().isDebugMode()) {
-                    plugin.getLogger().warning("Invalid BossBar configuration detected, using defaults: " + e.getMessage());
-                }
-                needsRecreation = true;
-            } catch (Exception e) {
-                // Corrupted BossBar instance
-                if (plugin.getConfigManager().isDebugMode()) {
-                    plugin.getLogger().warning("BossBar corrupted for world " + world.getName() + ", recreating: " + e.getMessage());
-                }
-                needsRecreation = true;
+            if (plugin.getConfigManager().isDebugMode()) {
+                plugin.getLogger().info("Created new BossBar for world " + world.getName());
             }
+        } else {
+            // Picks up color/style changes after a reload
+            bossBar.setStyle(barColor, barStyle);
         }
 
-        if (needsRecreation) {
-            // Safely remove old BossBar if it exists
-            if (bossBar != null) {
-                try {
-                    bossBar.removeAll();
-                } catch (Exception ignored) {}
-                worldBossBars.remove(world.getUID());
-            }
-
-            try {
-                // Create new BossBar with validated config
-                BarColor barColor;
-                BarStyle barStyle;
-
-                try {
-                    barColor = BarColor.valueOf(plugin.getConfigManager().getBossBarColor());
-                } catch (Exception e) {
-                    plugin.getLogger().warning("Invalid boss bar color, using default BLUE");
-                    barColor = BarColor.BLUE;
-                }
+        WorldData worldData = worldDataMap.get(world.getUID());
 
-                try {
-                    barStyle = BarStyle.valueOf(plugin.getConfigManager().getBossBarStyle());
-                } catch (Exception e) {
-                    plugin.getLogger().warning("Invalid boss bar style, using default SOLID");
-                    barStyle = BarStyle.SOLID;
-                }
+        try {
+            if (worldData == null || worldData.isEmpty()) {
+                // Hide BossBar if no votes
+                bossBar.setVisible(world, false);
+            } else {
+                int currentVotes = worldData.getVoteCount();
+                int requiredVotes = getRequiredVotes(world);
 
-                bossBar = Bukkit.createBossBar("", barColor, barStyle);
-                worldBossBars.put(world.getUID(), bossBar);
+                String title = plugin.getMessageManager().getBossBarTitle(currentVotes, requiredVotes);
+                bossBar.update(title, requiredVotes > 0 ? Math.min((float) currentVotes / requiredVotes, 1.0f) : 1.0f);
 
-                if (plugin.getConfigManager().isDebugMode()) {
-                    plugin.getLogger().info("Created new BossBar for world " + world.getName());
-                }
-            } catch (Exception e) {
-                plugin.getLogger().severe("Failed to create BossBar for world " + world.getName() + ": " + e.getMessage());
-                return;
+                // Viewers are kept in sync by the join/quit/world change handlers
+                bossBar.setVisible(world, true);
             }
-        }
-
-        WorldData worldData = worldDataMap.get(world.getUID());
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error updating BossBar for world " + world.getName() + ": " + e.getMessage());
 
-        if (worldData == null || worldData.getVotes().isEmpty()) {
-            // Hide BossBar if no votes
+            // Drop the broken bar, the next update creates a fresh one
+            worldBossBars.remove(world.getUID());
             try {
-                bossBar.setVisible(false);
-                bossBar.removeAll();
-            } catch (Exception e) {
-                if (plugin.getConfigManager().isDebugMode()) {
-                    plugin.getLogger().warning("Error hiding BossBar: " + e.getMessage());
-                }
-            }
-        } else {
-            int currentVotes = worldData.getVotes().size();
-            int requiredVotes = getRequiredVotes(world);
-
-            try {
-                String title = plugin.getMessageManager().getBossBarTitle(currentVotes, requiredVotes);
-                bossBar.setTitle(title);
-                bossBar.setProgress(Math.min((double) currentVotes / requiredVotes, 1.0));
-                bossBar.setVisible(true);
-
-                // Synchronize players in BossBar with world players
-                Set<Player> bossBarPlayers = new HashSet<>(bossBar.getPlayers());
-                Set<Player> worldPlayers = new HashSet<>(world.getPlayers());
-
-                // Add missing players
-                for (Player player : worldPlayers) {
-                    if (!bossBarPlayers.contains(player)) {
-                        try {
-                            bossBar.addPlayer(player);
-                            if (plugin.getConfigManager().isDebugMode()) {
-                                plugin.getLogger().info("Added missing player " + player.getName() + " to BossBar");
-                            }
-                        } catch (Exception e) {
-                            if (plugin.getConfigManager().isDebugMode()) {
-                                plugin.getLogger().warning("Failed to add player " + player.getName() + " to BossBar: " + e.getMessage());
-                            }
-                        }
-                    }
-                }
-
-                // Remove players no longer in the world
-                for (Player player : bossBarPlayers) {
-                    if (!worldPlayers.contains(player)) {
-                        try {
-                            bossBar.removePlayer(player);
-                            if (plugin.getConfigManager().isDebugMode()) {
-                                plugin.getLogger().info("Removed player " + player.getName() + " from BossBar (not in world)");
-                            }
-                        } catch (Exception e) {
-                            if (plugin.getConfigManager().isDebugMode()) {
-                                plugin.getLogger().warning("Failed to remove player " + player.getName() + " from BossBar: " + e.getMessage());
-                            }
-                        }
-                    }
-                }
+                bossBar.hideAll();
+            } catch (Exception ignored) {}
+        }
+    }
 
-            } catch (Exception e) {
-                plugin.getLogger().warning("Error updating BossBar for world " + world.getName() + ": " + e.getMessage());
+    /**
+     * Periodic safety net for viewer changes that were missed by the event handlers
+     */
+    private void reconcileBossBars() {
+        for (Map.Entry<UUID, VoteBossBar> entry : worldBossBars.entrySet()) {
+            World world = Bukkit.getWorld(entry.getKey());
+            if (world == null) {
+                worldBossBars.remove(entry.getKey());
+                entry.getValue().hideAll();
+                continue;
+            }
 
-                // On repeated errors, remove corrupted BossBar
-                worldBossBars.remove(world.getUID());
-                try {
-                    bossBar.removeAll();
-                } catch (Exception ignored) {}
+            int corrections = entry.getValue().reconcile(world);
+            if (corrections > 0 && plugin.getConfigManager().isDebugMode()) {
+                plugin.getLogger().info("Corrected " + corrections + " BossBar viewer(s) in world " + world.getName());
             }
         }
+
+        bossBarReconcile.schedule(BOSS_BAR_RECONCILE_INTERVAL);
     }
 
     /**
@@ -668,10 +605,10 @@ public class SleepVoteManager {
                 updateBossBar(world);
             } else {
                 // World no longer exists, remove BossBar
-                BossBar bossBar = worldBossBars.remove(worldUUID);
+                VoteBossBar bossBar = worldBossBars.remove(worldUUID);
                 if (bossBar != null) {
                     try {
-                        bossBar.removeAll();
+                        bossBar.hideAll();
                     } catch (Exception ignored) {}
                 }
             }
@@ -686,64 +623,131 @@ public class SleepVoteManager {
         WorldData worldData = worldDataMap.get(world.getUID());
         if (worldData == null) return;
 
-        int currentVotes = worldData.getVotes().size();
+        int currentVotes = worldData.getVoteCount();
         int requiredVotes = getRequiredVotes(world);
 
-        plugin.getMessageManager().sendWorldMessage(world, "vote-cast", Map.of(
-                "current", String.valueOf(currentVotes),
-                "required", String.valueOf(requiredVotes),
-                "remaining", String.valueOf(requiredVotes - currentVotes)
-        ));
+        plugin.getMessageManager().sendWorldMessage(world, "vote-cast",
+                MessageArgs.of(Placeholder.CURRENT, currentVotes)
+                        .with(Placeholder.REQUIRED, requiredVotes)
+                        .with(Placeholder.REMAINING, requiredVotes - currentVotes));
     }
 
     private void playVoteEffects(World world, Player voter) {
         // Use the effects manager
         plugin.getEffectsManager().playVoteEffects(world, voter);
 
-        // Send action bar to all players in the world showing who voted
-        if (plugin.getConfigManager().isActionBarEnabled()) {
-            WorldData worldData = worldDataMap.get(world.getUID());
-            if (worldData == null) return;
+        // Action bar showing who voted goes out with the next display flush (the digest replaces it)
+        if (plugin.getConfigManager().isActionBarEnabled() && !plugin.getConfigManager().isVoteDigestEnabled()) {
+            pendingVoteActionBars.put(world.getUID(), voter.getName());
+            markDisplayDirty(world);
+        }
+    }
 
-            int currentVotes = worldData.getVotes().size();
-            int requiredVotes = getRequiredVotes(world);
+    private void sendVoteActionBar(World world, String voterName) {
+        WorldData worldData = worldDataMap.get(world.getUID());
+        if (worldData == null) return;
 
-            for (Player player : world.getPlayers()) {
-                plugin.getMessageManager().sendActionBar(player, "vote-cast-actionbar",
-                        Map.of("player", voter.getName(),
-                                "current", String.valueOf(currentVotes),
-                                "required", String.valueOf(requiredVotes),
-                                "remaining", String.valueOf(requiredVotes - currentVotes)));
+        int currentVotes = worldData.getVoteCount();
+        int requiredVotes = getRequiredVotes(world);
+
+        plugin.getMessageManager().sendWorldActionBar(world, "vote-cast-actionbar",
+                MessageArgs.of(Placeholder.PLAYER, voterName)
+                        .with(Placeholder.CURRENT, currentVotes)
+                        .with(Placeholder.REQUIRED, requiredVotes)
+                        .with(Placeholder.REMAINING, requiredVotes - currentVotes));
+    }
+
+    /**
+     * Queues a boss bar refresh for the world; bursts of changes are rendered once per flush
+     */
+    private void markDisplayDirty(World world) {
+        dirtyDisplays.add(world.getUID());
+    }
+
+    /**
+     * Renders every dirty world once, at most every display.refresh-interval-ticks
+     */
+    private void flushDisplays() {
+        if (++ticksSinceFlush < plugin.getConfigManager().getDisplayRefreshInterval()) {
+            return;
+        }
+        ticksSinceFlush = 0;
+
+        if (dirtyDisplays.isEmpty()) {
+            return;
+        }
+
+        Iterator<UUID> iterator = dirtyDisplays.iterator();
+        while (iterator.hasNext()) {
+            UUID worldId = iterator.next();
+            iterator.remove();
+
+            String voterName = pendingVoteActionBars.remove(worldId);
+            World world = Bukkit.getWorld(worldId);
+            if (world == null) {
+                // World unloaded in the meantime
+                VoteBossBar bossBar = worldBossBars.remove(worldId);
+                if (bossBar != null) {
+                    bossBar.hideAll();
+                }
+                continue;
+            }
+
+            updateBossBar(world);
+            if (voterName != null) {
+                sendVoteActionBar(world, voterName);
             }
         }
     }
 
     public void clearVotes(World world) {
         worldDataMap.remove(world.getUID());
-        updateBossBar(world);
-        cancelSkipTask(world);
-        cancelVoteTimeoutTask(world);
-        cancelNightCheckTask(world);
+        markDisplayDirty(world);
+
+        WorldTimers timers = worldTimers.remove(world.getUID());
+        if (timers != null) {
+            timers.cancelAll();
+        }
     }
 
     private void cancelSkipTask(World world) {
-        BukkitTask task = skipTasks.remove(world.getUID());
-        if (task != null && !task.isCancelled()) {
-            task.cancel();
+        WorldTimers timers = worldTimers.get(world.getUID());
+        if (timers != null) {
+            timers.skip.cancel();
         }
     }
 
-    private void cancelVoteTimeoutTask(World world) {
-        BukkitTask task = voteTimeoutTasks.remove(world.getUID());
-        if (task != null && !task.isCancelled()) {
-            task.cancel();
-        }
+    private WorldTimers getTimers(World world) {
+        return worldTimers.computeIfAbsent(world.getUID(), WorldTimers::new);
     }
 
-    private void cancelNightCheckTask(World world) {
-        BukkitTask task = nightCheckTasks.remove(world.getUID());
-        if (task != null && !task.isCancelled()) {
-            task.cancel();
+    /**
+     * Skip, vote timeout and night check deadlines of one world, all driven by the plugin tick driver.
+     * Rescheduling moves the deadline inside the timing wheel instead of creating a new task.
+     */
+    private final class WorldTimers {
+
+        private final TimingWheel.Timeout skip;
+        private final TimingWheel.Timeout voteTimeout;
+        private final TimingWheel.Timeout nightCheck;
+
+        private WorldTimers(UUID worldId) {
+            this.skip = plugin.getTickDriver().newTimeout(() -> runForWorld(worldId, SleepVoteManager.this::runScheduledSkip));
+            this.voteTimeout = plugin.getTickDriver().newTimeout(() -> runForWorld(worldId, SleepVoteManager.this::runVoteTimeout));
+            this.nightCheck = plugin.getTickDriver().newTimeout(() -> runForWorld(worldId, SleepVoteManager.this::runNightCheck));
+        }
+
+        private void runForWorld(UUID worldId, Consumer<World> action) {
+            World world = Bukkit.getWorld(worldId);
+            if (world != null) {
+                action.accept(world);
+            }
+        }
+
+        private void cancelAll() {
+            skip.cancel();
+            voteTimeout.cancel();
+            nightCheck.cancel();
         }
     }
 
@@ -759,7 +763,7 @@ public class SleepVoteManager {
 
     public int getCurrentVotes(World world) {
         WorldData data = worldDataMap.get(world.getUID());
-        return data != null ? data.getVotes().size() : 0;
+        return data != null ? data.getVoteCount() : 0;
     }
 
     public int getRequiredVotes(World world) {
@@ -790,30 +794,25 @@ public class SleepVoteManager {
             return;
         }
 
-        // Create a fake vote list with just the initiator
-        List<SleepVote> fakeVotes = List.of(new SleepVote(
-                initiator.getUniqueId(),
-                initiator.getName(),
-                LocalDateTime.now(),
-                initiator.getLocation()
-        ));
-
-        // Perform skip actions
-        performSkipActions(world, fakeVotes, true);
+        // Perform skip actions with the initiator as the only voter
+        performSkipActions(world, List.of(initiator.getUniqueId()), true);
 
         // Send force skip message
         plugin.getMessageManager().sendWorldMessage(world, "force-skip-by-admin",
-                Map.of("admin", initiator.getName()));
+                MessageArgs.of(Placeholder.ADMIN, initiator.getName()));
     }
 
     /**
      * Event handlers for player connections and world changes
      */
     public void handlePlayerJoin(Player player) {
-        World world = player.getWorld();
-
         plugin.getPlatformAdapter().runTaskLater(() -> {
-            updateBossBar(world);
+            if (!player.isOnline()) {
+                return;
+            }
+
+            World world = player.getWorld();
+            markDisplayDirty(world);
             addPlayerToBossBar(world, player);
 
             if (plugin.getDawnAnimationManager() != null) {
@@ -831,6 +830,14 @@ public class SleepVoteManager {
             removeSleepVote(player);
         }
 
+        voteDigest.handlePlayerQuit(player);
+
+        // The client is gone; drop the viewer entry and any reference the bar holds
+        VoteBossBar bossBar = worldBossBars.get(player.getWorld().getUID());
+        if (bossBar != null) {
+            bossBar.forget(player);
+        }
+
         // Handle dawn animation player quit
         if (plugin.getDawnAnimationManager() != null) {
             plugin.getDawnAnimationManager().handlePlayerQuit(player);
@@ -851,40 +858,42 @@ public class SleepVoteManager {
             SleepVoteRemovedEvent event = new SleepVoteRemovedEvent(player, fromWorld, vote);
             Bukkit.getPluginManager().callEvent(event);
 
-            updateBossBar(fromWorld);
+            markDisplayDirty(fromWorld);
         }
 
-        // Add to new world's boss bar
+        // Move from the old world's boss bar to the new one's
+        removePlayerFromBossBar(fromWorld, player);
         addPlayerToBossBar(toWorld, player);
     }
 
     private void addPlayerToBossBar(World world, Player player) {
-        BossBar bossBar = worldBossBars.get(world.getUID());
-        if (bossBar != null && !bossBar.getPlayers().contains(player)) {
-            bossBar.addPlayer(player);
+        VoteBossBar bossBar = worldBossBars.get(world.getUID());
+        if (bossBar != null) {
+            bossBar.show(player);
+        }
+    }
+
+    private void removePlayerFromBossBar(World world, Player player) {
+        VoteBossBar bossBar = worldBossBars.get(world.getUID());
+        if (bossBar != null) {
+            bossBar.hide(player);
         }
     }
 
     public void shutdown() {
-        // Cancel all tasks
-        skipTasks.values().forEach(task -> {
-            if (!task.isCancelled()) task.cancel();
-        });
-        voteTimeoutTasks.values().forEach(task -> {
-            if (!task.isCancelled()) task.cancel();
-        });
-        nightCheckTasks.values().forEach(task -> {
-            if (!task.isCancelled()) task.cancel();
-        });
+        // Cancel all deadlines
+        worldTimers.values().forEach(WorldTimers::cancelAll);
+        dirtyDisplays.clear();
+        pendingVoteActionBars.clear();
+        voteDigest.clear();
 
         // Remove all boss bars
-        worldBossBars.values().forEach(BossBar::removeAll);
+        bossBarReconcile.cancel();
+        worldBossBars.values().forEach(VoteBossBar::hideAll);
 
         // Clear data
         worldDataMap.clear();
         worldBossBars.clear();
-        skipTasks.clear();
-        voteTimeoutTasks.clear();
-        nightCheckTasks.clear();
+        worldTimers.clear();
     }
 }
\ No newline at end of file
@@ -1,19 +1,45 @@
 package com.github.k1ritoz.vote2Sleep.managers;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
-import com.github.k1ritoz.vote2Sleep.data.WorldData;
+import com.github.k1ritoz.vote2Sleep.config.ConfigSnapshot;
+import com.github.k1ritoz.vote2Sleep.data.WorldState;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 public class Vote2SleepPlaceholders extends PlaceholderExpansion {
 
+    @FunctionalInterface
+    private interface WorldResolver {
+        String resolve(World world, WorldState state);
+    }
+
+    @FunctionalInterface
+    private interface PlayerResolver {
+        String resolve(Player player, WorldState state);
+    }
+
     private final Vote2Sleep plugin;
+    private final Map<String, WorldResolver> worldResolvers = new HashMap<>();
+    private final Map<String, PlayerResolver> playerResolvers = new HashMap<>();
+    private final Map<String, WorldResolver> timeResolvers = new HashMap<>();
+    private final Map<String, WorldResolver> liveResolvers = new HashMap<>();
+    private final Map<String, Supplier<String>> globalResolvers = new HashMap<>();
+    // Rendered values per world, dropped when the world state version or the configuration changes
+    private final Map<UUID, WorldCache> worldCaches = new ConcurrentHashMap<>();
 
     public Vote2SleepPlaceholders(Vote2Sleep plugin) {
         this.plugin = plugin;
+        registerResolvers();
     }
 
     @Override
@@ -60,92 +86,49 @@ public class Vote2SleepPlaceholders extends PlaceholderExpansion {
         }
 
         // Check if vote manager is available
-        if (plugin.getVoteManager() == null) {
+        if (plugin.getVoteManager() == null || plugin.getWorldStateSnapshot() == null) {
             return null;
         }
 
         try {
-            switch (params.toLowerCase()) {
-                case "current_votes":
-                    return String.valueOf(plugin.getVoteManager().getCurrentVotes(world));
-
-                case "required_votes":
-                    return String.valueOf(plugin.getVoteManager().getRequiredVotes(world));
-
-                case "remaining_votes":
-                    int current = plugin.getVoteManager().getCurrentVotes(world);
-                    int required = plugin.getVoteManager().getRequiredVotes(world);
-                    return String.valueOf(Math.max(0, required - current));
-
-                case "has_voted":
-                    return String.valueOf(plugin.getVoteManager().hasPlayerVoted(player));
-
-                case "has_voted_yes_no":
-                    return plugin.getVoteManager().hasPlayerVoted(player) ? "Yes" : "No";
-
-                case "world_enabled":
-                    return String.valueOf(plugin.getConfigManager().isWorldEnabled(world));
-
-                case "world_enabled_yes_no":
-                    return plugin.getConfigManager().isWorldEnabled(world) ? "Yes" : "No";
-
-                case "can_sleep":
-                    return String.valueOf(canSleep(world));
-
-                case "can_sleep_yes_no":
-                    return canSleep(world) ? "Yes" : "No";
-
-                case "is_night":
-                    return String.valueOf(isNight(world));
-
-                case "is_night_yes_no":
-                    return isNight(world) ? "Yes" : "No";
-
-                case "is_stormy":
-                    return String.valueOf(world.hasStorm() || world.isThundering());
-
-                case "is_stormy_yes_no":
-                    return (world.hasStorm() || world.isThundering()) ? "Yes" : "No";
-
-                case "progress_percentage":
-                    int currentVotes = plugin.getVoteManager().getCurrentVotes(world);
-                    int requiredVotes = plugin.getVoteManager().getRequiredVotes(world);
-                    return String.valueOf(requiredVotes > 0 ? Math.round((currentVotes * 100.0) / requiredVotes) : 0);
-
-                case "progress_decimal":
-                    int currentVotesDecimal = plugin.getVoteManager().getCurrentVotes(world);
-                    int requiredVotesDecimal = plugin.getVoteManager().getRequiredVotes(world);
-                    return String.format("%.2f", requiredVotesDecimal > 0 ? (currentVotesDecimal / (double) requiredVotesDecimal) : 0.0);
-
-                case "world_name":
-                    return world.getName();
-
-                case "vote_percentage_setting":
-                    double percentage = plugin.getConfigManager().getVotePercentage(world);
-                    return String.valueOf(Math.round(percentage * 100));
-
-                case "eligible_players":
-                    return String.valueOf(getEligiblePlayerCount(world));
-
-                case "total_players":
-                    return String.valueOf(world.getPlayers().size());
-
-                case "time_formatted":
-                    return formatTime(world.getTime());
-
-                // World time placeholders
-                case "world_time":
-                    return String.valueOf(world.getTime());
+            String param = normalize(params);
+            WorldState state = plugin.getWorldStateSnapshot().get(world);
+
+            WorldResolver worldResolver = worldResolvers.get(param);
+            if (worldResolver != null) {
+                WorldCache cache = getCache(state);
+                return cache != null
+                        ? cached(cache.values, param, () -> worldResolver.resolve(world, state))
+                        : worldResolver.resolve(world, state);
+            }
 
-                case "world_time_12h":
-                    return formatTime12Hour(world.getTime());
+            PlayerResolver playerResolver = playerResolvers.get(param);
+            if (playerResolver != null) {
+                return playerResolver.resolve(player, state);
+            }
 
-                case "world_time_24h":
-                    return formatTime24Hour(world.getTime());
+            WorldResolver timeResolver = timeResolvers.get(param);
+            if (timeResolver != null) {
+                WorldCache cache = getCache(state);
+                if (cache == null) {
+                    return timeResolver.resolve(world, state);
+                }
+                // The formatted times only change once per in-game hour (1000 ticks)
+                long hour = state.getTime() / 1000;
+                TimeValues timeValues = cache.timeValues;
+                if (timeValues == null || timeValues.hour != hour) {
+                    timeValues = new TimeValues(hour);
+                    cache.timeValues = timeValues;
+                }
+                return cached(timeValues.values, param, () -> timeResolver.resolve(world, state));
+            }
 
-                default:
-                    return null; // Placeholder not found
+            WorldResolver liveResolver = liveResolvers.get(param);
+            if (liveResolver != null) {
+                return liveResolver.resolve(world, state);
             }
+
+            return null; // Placeholder not found
         } catch (Exception e) {
             // Log error in debug mode only to avoid spam
             if (plugin.getConfigManager() != null && plugin.getConfigManager().isDebugMode()) {
@@ -161,71 +144,115 @@ public class Vote2SleepPlaceholders extends PlaceholderExpansion {
     @Nullable
     private String handleGlobalPlaceholder(String params) {
         try {
-            switch (params.toLowerCase()) {
-                case "plugin_version":
-                    return plugin.getDescription().getVersion();
-
-                case "platform":
-                    return plugin.getPlatformAdapter() != null ? plugin.getPlatformAdapter().getPlatformName() : "Unknown";
-
-                case "enabled_worlds_count":
-                    return String.valueOf(plugin.getConfigManager().getEnabledWorlds().size());
-
-                case "database_enabled":
-                    return String.valueOf(plugin.getConfigManager().isDatabaseEnabled());
-
-                case "database_enabled_yes_no":
-                    return plugin.getConfigManager().isDatabaseEnabled() ? "Yes" : "No";
-
-                default:
-                    return null;
-            }
+            Supplier<String> resolver = globalResolvers.get(normalize(params));
+            return resolver != null ? resolver.get() : null;
         } catch (Exception e) {
             return null;
         }
     }
 
-    // Utility methods
-    private boolean canSleep(World world) {
-        boolean isNight = isNight(world);
-        boolean isStormy = world.hasStorm() || world.isThundering();
-
-        return (isNight && plugin.getConfigManager().isNightSkipAllowed()) ||
-                (isStormy && plugin.getConfigManager().isStormSkipAllowed());
+    private void registerResolvers() {
+        // Vote state: cached per world until the world state version changes
+        worldResolvers.put("current_votes", (world, state) -> String.valueOf(state.getCurrentVotes()));
+        worldResolvers.put("required_votes", (world, state) -> String.valueOf(state.getRequiredVotes()));
+        worldResolvers.put("remaining_votes", (world, state) -> String.valueOf(state.getRemainingVotes()));
+        worldResolvers.put("world_enabled", (world, state) -> String.valueOf(plugin.getConfigManager().isWorldEnabled(world)));
+        worldResolvers.put("world_enabled_yes_no", (world, state) -> yesNo(plugin.getConfigManager().isWorldEnabled(world)));
+        worldResolvers.put("can_sleep", (world, state) -> String.valueOf(state.canSleep()));
+        worldResolvers.put("can_sleep_yes_no", (world, state) -> yesNo(state.canSleep()));
+        worldResolvers.put("is_night", (world, state) -> String.valueOf(state.isNight()));
+        worldResolvers.put("is_night_yes_no", (world, state) -> yesNo(state.isNight()));
+        worldResolvers.put("is_stormy", (world, state) -> String.valueOf(state.isStorm()));
+        worldResolvers.put("is_stormy_yes_no", (world, state) -> yesNo(state.isStorm()));
+        worldResolvers.put("progress_percentage", (world, state) -> {
+            int requiredVotes = state.getRequiredVotes();
+            return String.valueOf(requiredVotes > 0 ? Math.round((state.getCurrentVotes() * 100.0) / requiredVotes) : 0);
+        });
+        worldResolvers.put("progress_decimal", (world, state) -> {
+            int requiredVotes = state.getRequiredVotes();
+            return formatDecimal(requiredVotes > 0 ? (state.getCurrentVotes() / (double) requiredVotes) : 0.0);
+        });
+        worldResolvers.put("world_name", (world, state) -> state.getWorldName());
+        worldResolvers.put("vote_percentage_setting", (world, state) ->
+                String.valueOf(Math.round(plugin.getConfigManager().getVotePercentage(world) * 100)));
+        worldResolvers.put("eligible_players", (world, state) -> String.valueOf(state.getEligiblePlayers()));
+
+        // Per player: resolved live. The world state version only follows vote counts, so it can't
+        // tell which players voted, and the lookup is a single map hit anyway
+        playerResolvers.put("has_voted", (player, state) -> String.valueOf(plugin.getVoteManager().hasPlayerVoted(player)));
+        playerResolvers.put("has_voted_yes_no", (player, state) -> yesNo(plugin.getVoteManager().hasPlayerVoted(player)));
+
+        // World time placeholders: cached per in-game hour, which is all the formatters show
+        timeResolvers.put("time_formatted", (world, state) -> formatTime(state.getTime()));
+        timeResolvers.put("world_time_12h", (world, state) -> formatTime12Hour(state.getTime()));
+        timeResolvers.put("world_time_24h", (world, state) -> formatTime24Hour(state.getTime()));
+
+        // Not part of the world state, or changing every tick
+        liveResolvers.put("world_time", (world, state) -> String.valueOf(state.getTime()));
+        liveResolvers.put("total_players", (world, state) -> String.valueOf(world.getPlayers().size()));
+        liveResolvers.put("world_tps", (world, state) -> formatDecimal(plugin.getServerHealthMonitor().getTps(world)));
+
+        globalResolvers.put("plugin_version", () -> plugin.getDescription().getVersion());
+        globalResolvers.put("platform", () ->
+                plugin.getPlatformAdapter() != null ? plugin.getPlatformAdapter().getPlatformName() : "Unknown");
+        globalResolvers.put("enabled_worlds_count", () -> String.valueOf(plugin.getConfigManager().getEnabledWorlds().size()));
+        globalResolvers.put("database_enabled", () -> String.valueOf(plugin.getConfigManager().isDatabaseEnabled()));
+        globalResolvers.put("database_enabled_yes_no", () -> yesNo(plugin.getConfigManager().isDatabaseEnabled()));
+        globalResolvers.put("server_tps", () -> formatDecimal(plugin.getServerHealthMonitor().getHealth().getTps()));
+        globalResolvers.put("server_mspt", () -> formatDecimal(plugin.getServerHealthMonitor().getHealth().getMsptP50()));
+        globalResolvers.put("server_mspt_p95", () -> formatDecimal(plugin.getServerHealthMonitor().getHealth().getMsptP95()));
+        globalResolvers.put("dawn_frames_dropped", () -> String.valueOf(plugin.getDawnAnimationManager().getDroppedFrameCount()));
+        globalResolvers.put("load_tier", () -> plugin.getLoadSheddingManager().getTier().name());
     }
 
-    private boolean isNight(World world) {
-        long time = world.getTime();
-        return time >= 12542 && time <= 23459;
+    /**
+     * Placeholder names are registered in lower case; most requests already are
+     */
+    private String normalize(String params) {
+        if (worldResolvers.containsKey(params) || playerResolvers.containsKey(params) ||
+                timeResolvers.containsKey(params) || liveResolvers.containsKey(params) ||
+                globalResolvers.containsKey(params)) {
+            return params;
+        }
+        return params.toLowerCase(Locale.ROOT);
     }
 
-    private int getEligiblePlayerCount(World world) {
-        return (int) world.getPlayers().stream()
-                .filter(p -> !isPlayerExempt(p))
-                .count();
-    }
+    /**
+     * The cache of the world's current state version, or null for unversioned (live) states
+     */
+    @Nullable
+    private WorldCache getCache(WorldState state) {
+        if (state.getVersion() == WorldState.UNVERSIONED) {
+            return null;
+        }
 
-    private boolean isPlayerExempt(Player player) {
-        try {
-            // Check game mode exemptions
-            String gameMode = player.getGameMode().name();
-            if (plugin.getConfigManager().getExemptGameModes().contains(gameMode)) {
-                return true;
-            }
+        ConfigSnapshot settings = plugin.getConfigManager().getSettings();
+        WorldCache cache = worldCaches.get(state.getWorldUUID());
+        if (cache == null || cache.version != state.getVersion() || cache.settings != settings) {
+            cache = new WorldCache(state.getVersion(), settings);
+            worldCaches.put(state.getWorldUUID(), cache);
+        }
+        return cache;
+    }
 
-            // Check permission exemptions
-            for (String permission : plugin.getConfigManager().getExemptPermissions()) {
-                if (player.hasPermission(permission)) {
-                    return true;
-                }
-            }
-        } catch (Exception e) {
-            // If error checking exemptions, assume not exempt
+    private static String cached(Map<String, String> values, String param, Supplier<String> resolver) {
+        String value = values.get(param);
+        if (value == null) {
+            value = resolver.get();
+            values.put(param, value);
         }
+        return value;
+    }
+
+    private static String yesNo(boolean value) {
+        return value ? "Yes" : "No";
+    }
 
-        return false;
+    private static String formatDecimal(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
     }
 
+    // Utility methods
     private String formatTime(long ticks) {
         // Convert Minecraft ticks to hours and minutes
         long totalMinutes = (ticks + 6000) / 1000 * 60 / 60; // Offset by 6000 to start at 6:00 AM
@@ -259,4 +286,25 @@ public class Vote2SleepPlaceholders extends PlaceholderExpansion {
 
         return String.format("%02d:%02d", hours, minutes);
     }
-}
\ No newline at end of file
+
+    private static final class WorldCache {
+        private final long version;
+        private final ConfigSnapshot settings;
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private volatile TimeValues timeValues;
+
+        private WorldCache(long version, ConfigSnapshot settings) {
+            this.version = version;
+            this.settings = settings;
+        }
+    }
+
+    private static final class TimeValues {
+        private final long hour;
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+
+        private TimeValues(long hour) {
+            this.hour = hour;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.config.ConfigSnapshot;
+import com.github.k1ritoz.vote2Sleep.scheduler.TimingWheel;
+import com.github.k1ritoz.vote2Sleep.utils.MessageArgs;
+import com.github.k1ritoz.vote2Sleep.utils.Placeholder;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the votes cast in a world during a short window and announces them in
+ * one message ("Alex, Sam and 12 others voted"), instead of one chat message and
+ * action bar per vote for every player. The boss bar stays the real-time channel.
+ */
+public class VoteDigest {
+
+    private final Vote2Sleep plugin;
+    private final Map<UUID, Window> windows = new ConcurrentHashMap<>();
+    // Tick at which each player last received a digest
+    private final Map<UUID, Long> lastDelivery = new ConcurrentHashMap<>();
+
+    public VoteDigest(Vote2Sleep plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Adds a vote to the world's current window, opening one if needed
+     */
+    public void recordVote(World world, String voterName) {
+        Window window = windows.computeIfAbsent(world.getUID(), Window::new);
+        synchronized (window) {
+            window.voters.add(voterName);
+            if (!window.timeout.isPending()) {
+                window.timeout.schedule(plugin.getConfigManager().getSettings().getVoteDigestWindow());
+            }
+        }
+    }
+
+    private void flush(UUID worldId) {
+        Window window = windows.get(worldId);
+        if (window == null) {
+            return;
+        }
+
+        List<String> voters;
+        synchronized (window) {
+            if (window.voters.isEmpty()) {
+                return;
+            }
+            voters = new ArrayList<>(window.voters);
+            window.voters.clear();
+        }
+
+        World world = Bukkit.getWorld(worldId);
+        if (world == null) {
+            windows.remove(worldId);
+            return;
+        }
+
+        // Votes were cleared (skip, timeout or end of night) before the window closed
+        int currentVotes = plugin.getVoteManager().getCurrentVotes(world);
+        if (currentVotes == 0) {
+            return;
+        }
+
+        ConfigSnapshot settings = plugin.getConfigManager().getSettings();
+        int shown = Math.min(voters.size(), settings.getVoteDigestMaxNames());
+        int others = voters.size() - shown;
+
+        MessageArgs args = MessageArgs.of(Placeholder.PLAYER, String.join(", ", voters.subList(0, shown)))
+                .with(Placeholder.COUNT, others)
+                .with(Placeholder.CURRENT, currentVotes)
+                .with(Placeholder.REQUIRED, plugin.getVoteManager().getRequiredVotes(world));
+
+        plugin.getMessageManager().sendMessage(getRecipients(world, settings.getVoteDigestPlayerCooldown()),
+                others > 0 ? "vote-digest-others" : "vote-digest", args);
+    }
+
+    /**
+     * Players of the world that are not within the per-player cooldown
+     */
+    private List<Player> getRecipients(World world, int cooldown) {
+        long now = plugin.getTickDriver().getCurrentTick();
+        List<Player> players = world.getPlayers();
+        List<Player> recipients = new ArrayList<>(players.size());
+
+        for (Player player : players) {
+            Long last = lastDelivery.get(player.getUniqueId());
+            if (last == null || now - last >= cooldown) {
+                recipients.add(player);
+                lastDelivery.put(player.getUniqueId(), now);
+            }
+        }
+        return recipients;
+    }
+
+    public void handlePlayerQuit(Player player) {
+        lastDelivery.remove(player.getUniqueId());
+    }
+
+    public void clear() {
+        windows.values().forEach(window -> window.timeout.cancel());
+        windows.clear();
+        lastDelivery.clear();
+    }
+
+    private final class Window {
+
+        private final List<String> voters = new ArrayList<>();
+        private final TimingWheel.Timeout timeout;
+
+        private Window(UUID worldId) {
+            this.timeout = plugin.getTickDriver().newTimeout(() -> flush(worldId));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.data.WorldState;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Samples every enabled world once per tick and publishes the result as an
+ * immutable map, so placeholders, commands and the API never read live worlds.
+ */
+public class WorldStateSnapshot {
+
+    private final Vote2Sleep plugin;
+    private final Runnable sampler = this::sampleAll;
+    private volatile Map<UUID, WorldState> states = Collections.emptyMap();
+    // Shared by all worlds so a version is never reused, even after a world is unloaded and reloaded
+    private long lastVersion;
+
+    public WorldStateSnapshot(Vote2Sleep plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        sampleAll();
+        plugin.getTickDriver().addTickListener(sampler);
+    }
+
+    private void sampleAll() {
+        Map<UUID, WorldState> previous = states;
+        Map<UUID, WorldState> next = new HashMap<>(Math.max(4, previous.size() * 2));
+        for (World world : Bukkit.getWorlds()) {
+            if (plugin.getConfigManager().isWorldEnabled(world)) {
+                next.put(world.getUID(), sampleVersioned(world, previous.get(world.getUID())));
+            }
+        }
+        states = Collections.unmodifiableMap(next);
+    }
+
+    /**
+     * The state published this tick. Worlds that are not sampled (disabled or
+     * just loaded) are read live instead, and carry {@link WorldState#UNVERSIONED}.
+     */
+    public WorldState get(World world) {
+        WorldState state = states.get(world.getUID());
+        return state != null ? state : sample(world);
+    }
+
+    /**
+     * Reads the world's current state directly, for callers that must see
+     * changes made earlier in the same tick. The result is unversioned.
+     */
+    public WorldState sample(World world) {
+        return sample(world, WorldState.UNVERSIONED);
+    }
+
+    private WorldState sampleVersioned(World world, WorldState previous) {
+        if (previous == null) {
+            return sample(world, ++lastVersion);
+        }
+
+        WorldState state = sample(world, previous.getVersion());
+        return state.hasSameVoteState(previous) ? state : state.withVersion(++lastVersion);
+    }
+
+    private WorldState sample(World world, long version) {
+        long time = world.getTime();
+        boolean storm = world.hasStorm() || world.isThundering();
+        SleepVoteManager voteManager = plugin.getVoteManager();
+
+        return new WorldState(
+                world.getUID(),
+                world.getName(),
+                time,
+                storm,
+                canSleep(WorldState.isNightTime(time), storm),
+                plugin.getEligibilityTracker().getEligibleCount(world),
+                voteManager.getCurrentVotes(world),
+                voteManager.getRequiredVotes(world),
+                plugin.getDawnAnimationManager().isAnimating(world),
+                plugin.getTickDriver().getCurrentTick(),
+                version
+        );
+    }
+
+    /**
+     * Whether sleeping is possible in the world right now
+     */
+    public boolean canSleepNow(World world) {
+        return canSleep(WorldState.isNightTime(world.getTime()), world.hasStorm() || world.isThundering());
+    }
+
+    private boolean canSleep(boolean night, boolean storm) {
+        return (night && plugin.getConfigManager().isNightSkipAllowed()) ||
+                (storm && plugin.getConfigManager().isStormSkipAllowed());
+    }
+
+    public void shutdown() {
+        plugin.getTickDriver().removeTickListener(sampler);
+        states = Collections.emptyMap();
+    }
+}
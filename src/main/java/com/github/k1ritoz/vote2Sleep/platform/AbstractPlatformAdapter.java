@@ -0,0 +1,119 @@
+package com.github.k1ritoz.vote2Sleep.platform;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskGroup;
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskHandle;
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Base of the platform adapters. Scheduling goes through the Bukkit scheduler unless a
+ * platform overrides it, and every task is tracked in one registry so it can be
+ * cancelled per owner or all at once on shutdown.
+ */
+public abstract class AbstractPlatformAdapter implements PlatformAdapter {
+
+    protected final Vote2Sleep plugin = Vote2Sleep.getInstance();
+    protected final TaskRegistry tasks = new TaskRegistry();
+
+    @Override
+    public TaskHandle runTaskLater(Runnable task, long delay) {
+        return tasks.track(task, false, wrapped -> cancellerOf(Bukkit.getScheduler().runTaskLater(plugin, wrapped, delay)));
+    }
+
+    @Override
+    public TaskHandle runTaskTimer(Runnable task, long delay, long period) {
+        return tasks.track(task, true, wrapped -> cancellerOf(Bukkit.getScheduler().runTaskTimer(plugin, wrapped, delay, period)));
+    }
+
+    @Override
+    public TaskHandle runTaskAsync(Runnable task) {
+        return tasks.track(task, false, wrapped -> cancellerOf(Bukkit.getScheduler().runTaskAsynchronously(plugin, wrapped)));
+    }
+
+    @Override
+    public TaskHandle runTaskLaterForWorld(World world, Consumer<World> task, long delay) {
+        return runTaskLater(() -> task.accept(world), delay);
+    }
+
+    @Override
+    public TaskHandle runTaskTimerForWorld(World world, Consumer<World> task, long delay, long period) {
+        return runTaskTimer(() -> task.accept(world), delay, period);
+    }
+
+    @Override
+    public TaskHandle runTaskLaterForPlayer(Player player, Consumer<Player> task, long delay) {
+        return runTaskLater(() -> task.accept(player), delay);
+    }
+
+    @Override
+    public <T extends Entity> TaskHandle runForEach(Collection<? extends T> entities, Consumer<? super T> task,
+                                                    long delay, int spreadTicks) {
+        List<T> remaining = new ArrayList<>(entities);
+        List<TaskHandle> batches = new ArrayList<>();
+        if (remaining.isEmpty()) {
+            return new TaskGroup(batches);
+        }
+
+        // A spread of zero or less runs everything in one batch
+        int ticks = Math.max(1, spreadTicks);
+        int batchSize = (remaining.size() + ticks - 1) / ticks;
+        long batchDelay = delay;
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            List<T> batch = remaining.subList(from, Math.min(from + batchSize, remaining.size()));
+            batches.add(runTaskLater(() -> {
+                for (T entity : batch) {
+                    runIfPresent(entity, task);
+                }
+            }, batchDelay++));
+        }
+        return new TaskGroup(batches);
+    }
+
+    @Override
+    public TaskHandle runTaskTimerWithJitter(Runnable task, long delay, long period, long maxJitter) {
+        long jitter = maxJitter > 0 ? ThreadLocalRandom.current().nextLong(maxJitter + 1) : 0L;
+        return runTaskTimer(task, delay + jitter, period);
+    }
+
+    @Override
+    public void cancelAll(Object owner) {
+        tasks.cancelAll(owner);
+    }
+
+    @Override
+    public void cancelAll() {
+        tasks.cancelAll();
+    }
+
+    /**
+     * Runs the batched task for an entity that is still in the world, logging failures
+     * so one entity cannot abort the rest of its batch
+     */
+    protected <T extends Entity> void runIfPresent(T entity, Consumer<? super T> task) {
+        boolean present = entity instanceof Player ? ((Player) entity).isOnline() : entity.isValid();
+        if (!present) {
+            return;
+        }
+
+        try {
+            task.accept(entity);
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error in batched task for " + entity.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private static Runnable cancellerOf(BukkitTask task) {
+        return task::cancel;
+    }
+}
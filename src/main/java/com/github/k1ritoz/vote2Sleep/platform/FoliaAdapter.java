@@ -1,17 +1,27 @@
 package com.github.k1ritoz.vote2Sleep.platform;
 
-import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskGroup;
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskHandle;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 
-public class FoliaAdapter implements PlatformAdapter {
-
-    private final Vote2Sleep plugin = Vote2Sleep.getInstance();
+/**
+ * Folia adapter built on the typed region schedulers of the Paper API
+ * (global, region, entity and async), without reflection.
+ */
+public class FoliaAdapter extends AbstractPlatformAdapter {
 
     @Override
     public String getPlatformName() {
@@ -24,77 +34,54 @@ public class FoliaAdapter implements PlatformAdapter {
     }
 
     @Override
-    public BukkitTask runTaskLater(Runnable task, long delay) {
-        try {
-            Object scheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
-            Object scheduledTask = scheduler.getClass()
-                    .getMethod("runDelayed", org.bukkit.plugin.Plugin.class,
-                            java.util.function.Consumer.class, long.class)
-                    .invoke(scheduler, plugin, (java.util.function.Consumer<Object>) (t) -> {
-                        try {
-                            task.run();
-                        } catch (Exception e) {
-                            plugin.getLogger().warning("Error in Folia global task: " + e.getMessage());
-                        }
-                    }, delay);
-            return new FoliaTaskWrapper(scheduledTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to schedule Folia global task, falling back to Bukkit scheduler: " + e.getMessage());
-            return Bukkit.getScheduler().runTaskLater(plugin, task, delay);
-        }
+    public TaskHandle runTaskLater(Runnable task, long delay) {
+        return tasks.track(task, false, wrapped -> {
+            Consumer<ScheduledTask> consumer = (t) -> {
+                try {
+                    wrapped.run();
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Error in Folia global task: " + e.getMessage());
+                }
+            };
+
+            // Folia rejects delays below one tick
+            return cancellerOf(delay < 1
+                    ? Bukkit.getGlobalRegionScheduler().run(plugin, consumer)
+                    : Bukkit.getGlobalRegionScheduler().runDelayed(plugin, consumer, delay));
+        });
     }
 
     @Override
-    public BukkitTask runTaskTimer(Runnable task, long delay, long period) {
-        try {
-            Object scheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
-            Object scheduledTask = scheduler.getClass()
-                    .getMethod("runAtFixedRate", org.bukkit.plugin.Plugin.class,
-                            java.util.function.Consumer.class, long.class, long.class)
-                    .invoke(scheduler, plugin, (java.util.function.Consumer<Object>) (t) -> {
-                        try {
-                            task.run();
-                        } catch (Exception e) {
-                            plugin.getLogger().warning("Error in Folia global timer task: " + e.getMessage());
-                        }
-                    }, delay, period);
-            return new FoliaTaskWrapper(scheduledTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to schedule Folia global timer task, falling back to Bukkit scheduler: " + e.getMessage());
-            return Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period);
-        }
+    public TaskHandle runTaskTimer(Runnable task, long delay, long period) {
+        return tasks.track(task, true, wrapped -> cancellerOf(Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, (t) -> {
+            try {
+                wrapped.run();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error in Folia global timer task: " + e.getMessage());
+            }
+        }, Math.max(1L, delay), Math.max(1L, period))));
     }
 
     @Override
-    public BukkitTask runTaskAsync(Runnable task) {
-        try {
-            Object scheduler = Bukkit.class.getMethod("getAsyncScheduler").invoke(null);
-            Object scheduledTask = scheduler.getClass()
-                    .getMethod("runNow", org.bukkit.plugin.Plugin.class,
-                            java.util.function.Consumer.class)
-                    .invoke(scheduler, plugin, (java.util.function.Consumer<Object>) (t) -> {
-                        try {
-                            task.run();
-                        } catch (Exception e) {
-                            plugin.getLogger().warning("Error in Folia async task: " + e.getMessage());
-                        }
-                    });
-            return new FoliaTaskWrapper(scheduledTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to schedule Folia async task, falling back to Bukkit scheduler: " + e.getMessage());
-            return Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
-        }
+    public TaskHandle runTaskAsync(Runnable task) {
+        return tasks.track(task, false, wrapped -> cancellerOf(Bukkit.getAsyncScheduler().runNow(plugin, (t) -> {
+            try {
+                wrapped.run();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error in Folia async task: " + e.getMessage());
+            }
+        })));
     }
 
     @Override
-    public BukkitTask runTaskLaterForWorld(World world, Consumer<World> task, long delay) {
+    public TaskHandle runTaskLaterForWorld(World world, Consumer<World> task, long delay) {
         // IMPORTANT: For operations like setTime(), use GLOBAL scheduler in Folia
         // World operations like time and weather must be executed on global thread
         return runTaskLater(() -> task.accept(world), delay);
     }
 
     @Override
-    public BukkitTask runTaskTimerForWorld(World world, Consumer<World> task, long delay, long period) {
+    public TaskHandle runTaskTimerForWorld(World world, Consumer<World> task, long delay, long period) {
         // IMPORTANT: For operations like setTime(), use GLOBAL scheduler in Folia
         return runTaskTimer(() -> task.accept(world), delay, period);
     }
@@ -102,70 +89,89 @@ public class FoliaAdapter implements PlatformAdapter {
     /**
      * For operations that really need the region thread (like spawning entities at specific locations)
      */
-    public BukkitTask runTaskLaterForWorldRegion(World world, Consumer<World> task, long delay) {
-        try {
-            Object scheduler = Bukkit.class.getMethod("getRegionScheduler").invoke(null);
+    public TaskHandle runTaskLaterForWorldRegion(World world, Consumer<World> task, long delay) {
+        // Use spawn location for scheduling
+        int chunkX = world.getSpawnLocation().getBlockX() >> 4;
+        int chunkZ = world.getSpawnLocation().getBlockZ() >> 4;
 
-            // Use spawn location for scheduling
-            int chunkX = world.getSpawnLocation().getBlockX() >> 4;
-            int chunkZ = world.getSpawnLocation().getBlockZ() >> 4;
+        return runTaskLaterAtChunk(world, chunkX, chunkZ, () -> task.accept(world), delay);
+    }
 
-            Object scheduledTask = scheduler.getClass()
-                    .getMethod("runDelayed", org.bukkit.plugin.Plugin.class,
-                            org.bukkit.World.class, int.class, int.class,
-                            java.util.function.Consumer.class, long.class)
-                    .invoke(scheduler, plugin, world, chunkX, chunkZ,
-                            (java.util.function.Consumer<Object>) (t) -> {
-                                try {
-                                    // Execute on the region thread
-                                    task.accept(world);
-                                } catch (Exception e) {
-                                    plugin.getLogger().warning("Error in Folia world region task: " + e.getMessage());
-                                    e.printStackTrace();
-                                }
-                            }, delay);
-            return new FoliaTaskWrapper(scheduledTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to schedule Folia world region task, falling back to global scheduler: " + e.getMessage());
-            e.printStackTrace();
-            // Fallback to global scheduler
-            return runTaskLater(() -> task.accept(world), delay);
-        }
+    /**
+     * Runs the task on the region thread that owns the given chunk
+     */
+    public TaskHandle runTaskLaterAtChunk(World world, int chunkX, int chunkZ, Runnable task, long delay) {
+        return tasks.track(task, false, wrapped -> {
+            Consumer<ScheduledTask> consumer = (t) -> {
+                try {
+                    // Execute on the region thread
+                    wrapped.run();
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Error in Folia world region task: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            };
+
+            return cancellerOf(delay < 1
+                    ? Bukkit.getRegionScheduler().run(plugin, world, chunkX, chunkZ, consumer)
+                    : Bukkit.getRegionScheduler().runDelayed(plugin, world, chunkX, chunkZ, consumer, delay));
+        });
     }
 
     @Override
-    public BukkitTask runTaskLaterForPlayer(Player player, Consumer<Player> task, long delay) {
-        try {
-            // Get entity scheduler from player
-            Object scheduler = player.getClass().getMethod("getScheduler").invoke(player);
-            Object scheduledTask = scheduler.getClass()
-                    .getMethod("runDelayed", org.bukkit.plugin.Plugin.class,
-                            java.util.function.Consumer.class, Runnable.class, long.class)
-                    .invoke(scheduler, plugin,
-                            (java.util.function.Consumer<Object>) (t) -> {
-                                try {
-                                    if (player.isOnline()) { // Safety check
-                                        task.accept(player);
-                                    }
-                                } catch (Exception e) {
-                                    plugin.getLogger().warning("Error in Folia player task: " + e.getMessage());
-                                }
-                            }, null, delay);
-            return new FoliaTaskWrapper(scheduledTask);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to schedule Folia player task for " + player.getName() + ", falling back to global scheduler: " + e.getMessage());
-            // Fallback to global scheduler
-            return runTaskLater(() -> {
-                if (player.isOnline()) {
-                    task.accept(player);
+    public TaskHandle runTaskLaterForPlayer(Player player, Consumer<Player> task, long delay) {
+        return runTaskLaterForEntity(player, task, delay);
+    }
+
+    /**
+     * Runs the task on the region thread that owns the entity, following it across regions
+     */
+    public <T extends Entity> TaskHandle runTaskLaterForEntity(T entity, Consumer<? super T> task, long delay) {
+        // The entity scheduler drops the task when the entity is removed; retiring finishes the handle
+        return tasks.track(() -> task.accept(entity), false, (wrapped, retired) -> cancellerOf(entity.getScheduler().runDelayed(plugin, (t) -> {
+            try {
+                if (entity.isValid() || (entity instanceof Player && ((Player) entity).isOnline())) { // Safety check
+                    wrapped.run();
+                } else {
+                    retired.run();
                 }
-            }, delay);
-        }
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error in Folia entity task: " + e.getMessage());
+            }
+        }, retired, Math.max(1L, delay))));
     }
 
+    /**
+     * Groups the entities by the region that owns them and runs one task per region,
+     * instead of one entity-scheduler task per entity
+     */
     @Override
-    public double[] getTPS() {
-        return new double[]{20.0, 20.0, 20.0}; // Folia doesn't have global TPS
+    public <T extends Entity> TaskHandle runForEach(Collection<? extends T> entities, Consumer<? super T> task,
+                                                    long delay, int spreadTicks) {
+        Map<RegionKey, List<T>> byRegion = new HashMap<>();
+        for (T entity : entities) {
+            Location location = entity.getLocation();
+            RegionKey key = new RegionKey(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+            byRegion.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+        }
+
+        List<TaskHandle> batches = new ArrayList<>(byRegion.size());
+        for (Map.Entry<RegionKey, List<T>> entry : byRegion.entrySet()) {
+            RegionKey key = entry.getKey();
+            List<T> batch = entry.getValue();
+
+            batches.add(runTaskLaterAtChunk(key.world, key.chunkX, key.chunkZ, () -> {
+                for (T entity : batch) {
+                    // The entity may have moved into another region since the batch was built
+                    if (Bukkit.isOwnedByCurrentRegion(entity)) {
+                        runIfPresent(entity, task);
+                    } else {
+                        runTaskLaterForEntity(entity, e -> runIfPresent(e, task), 1L);
+                    }
+                }
+            }, delay));
+        }
+        return new TaskGroup(batches);
     }
 
     @Override
@@ -177,7 +183,7 @@ public class FoliaAdapter implements PlatformAdapter {
      * Specific method for effects that need the region thread
      * (like spawning entities at specific coordinates)
      */
-    public BukkitTask runRegionSpecificEffects(World world, Consumer<World> effectsTask, long delay) {
+    public TaskHandle runRegionSpecificEffects(World world, Consumer<World> effectsTask, long delay) {
         return runTaskLaterForWorldRegion(world, effectsTask, delay);
     }
 
@@ -188,94 +194,43 @@ public class FoliaAdapter implements PlatformAdapter {
     }
 
     /**
-     * Enhanced wrapper class for better error handling and compatibility
+     * Cancels the Folia task; null when it could not be scheduled because its entity was retired
      */
-    private static class FoliaTaskWrapper implements BukkitTask {
-        private final Object scheduledTask;
-        private volatile boolean cancelled = false;
+    private static Runnable cancellerOf(ScheduledTask task) {
+        return task != null ? task::cancel : null;
+    }
 
-        public FoliaTaskWrapper(Object scheduledTask) {
-            this.scheduledTask = scheduledTask;
-        }
+    private static final class RegionKey {
 
-        @Override
-        public int getTaskId() {
-            return scheduledTask.hashCode();
-        }
+        // Folia groups chunks into region sections of 2^4 x 2^4 chunks by default
+        private static final int REGION_SECTION_SHIFT = 4;
 
-        @Override
-        public org.bukkit.plugin.Plugin getOwner() {
-            try {
-                Method method = findMethod(scheduledTask.getClass(), "getOwningPlugin");
-                if (method != null) {
-                    method.setAccessible(true);
-                    return (org.bukkit.plugin.Plugin) method.invoke(scheduledTask);
-                }
-            } catch (Exception e) {
-                // Ignore and return plugin instance
-            }
-            return Vote2Sleep.getInstance();
-        }
+        private final World world;
+        private final int sectionX;
+        private final int sectionZ;
+        // Any chunk of the section identifies its region; keep the first entity's chunk
+        private final int chunkX;
+        private final int chunkZ;
 
-        @Override
-        public boolean isSync() {
-            return true;
+        private RegionKey(World world, int chunkX, int chunkZ) {
+            this.world = world;
+            this.sectionX = chunkX >> REGION_SECTION_SHIFT;
+            this.sectionZ = chunkZ >> REGION_SECTION_SHIFT;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
         }
 
         @Override
-        public boolean isCancelled() {
-            if (cancelled) return true;
-
-            try {
-                Method method = findMethod(scheduledTask.getClass(), "isCancelled");
-                if (method != null) {
-                    method.setAccessible(true);
-                    return (Boolean) method.invoke(scheduledTask);
-                }
-            } catch (Exception e) {
-                // If we can't check, use our internal state
-            }
-            return cancelled;
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RegionKey)) return false;
+            RegionKey other = (RegionKey) o;
+            return sectionX == other.sectionX && sectionZ == other.sectionZ && world.equals(other.world);
         }
 
         @Override
-        public void cancel() {
-            cancelled = true;
-
-            try {
-                Method method = findMethod(scheduledTask.getClass(), "cancel");
-                if (method != null) {
-                    method.setAccessible(true);
-                    method.invoke(scheduledTask);
-                }
-            } catch (Exception e) {
-                // Log but don't throw - we've marked it as cancelled
-                Vote2Sleep.getInstance().getLogger().warning("Could not cancel Folia task: " + e.getMessage());
-            }
-        }
-
-        private Method findMethod(Class<?> clazz, String methodName) {
-            try {
-                return clazz.getMethod(methodName);
-            } catch (NoSuchMethodException e) {
-                try {
-                    return clazz.getDeclaredMethod(methodName);
-                } catch (NoSuchMethodException ex) {
-                    Class<?> superClass = clazz.getSuperclass();
-                    if (superClass != null && superClass != Object.class) {
-                        return findMethod(superClass, methodName);
-                    }
-
-                    for (Class<?> iface : clazz.getInterfaces()) {
-                        try {
-                            return findMethod(iface, methodName);
-                        } catch (Exception ignored) {
-                            // Continue
-                        }
-                    }
-                }
-            }
-            return null;
+        public int hashCode() {
+            return Objects.hash(world.getUID(), sectionX, sectionZ);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,8 @@
 package com.github.k1ritoz.vote2Sleep.platform;
 
-import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import org.bukkit.Bukkit;
-import org.bukkit.World;
-import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.util.function.Consumer;
-
-public class PaperAdapter implements PlatformAdapter {
-
-    private final Vote2Sleep plugin = Vote2Sleep.getInstance();
+public class PaperAdapter extends AbstractPlatformAdapter {
 
     @Override
     public String getPlatformName() {
@@ -22,45 +14,6 @@ public class PaperAdapter implements PlatformAdapter {
         return getMinecraftVersion() >= 1210;
     }
 
-    @Override
-    public BukkitTask runTaskLater(Runnable task, long delay) {
-        return Bukkit.getScheduler().runTaskLater(plugin, task, delay);
-    }
-
-    @Override
-    public BukkitTask runTaskTimer(Runnable task, long delay, long period) {
-        return Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period);
-    }
-
-    @Override
-    public BukkitTask runTaskAsync(Runnable task) {
-        return Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
-    }
-
-    @Override
-    public BukkitTask runTaskLaterForWorld(World world, Consumer<World> task, long delay) {
-        return Bukkit.getScheduler().runTaskLater(plugin, () -> task.accept(world), delay);
-    }
-
-    @Override
-    public BukkitTask runTaskTimerForWorld(World world, Consumer<World> task, long delay, long period) {
-        return Bukkit.getScheduler().runTaskTimer(plugin, () -> task.accept(world), delay, period);
-    }
-
-    @Override
-    public BukkitTask runTaskLaterForPlayer(Player player, Consumer<Player> task, long delay) {
-        return Bukkit.getScheduler().runTaskLater(plugin, () -> task.accept(player), delay);
-    }
-
-    @Override
-    public double[] getTPS() {
-        try {
-            return Bukkit.getTPS();
-        } catch (Exception e) {
-            return new double[]{20.0, 20.0, 20.0};
-        }
-    }
-
     @Override
     public boolean isAsyncSafe() {
         return true; // Bukkit/Spigot/Paper/Purpur is generally safe for async tasks
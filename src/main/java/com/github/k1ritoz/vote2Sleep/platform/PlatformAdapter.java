@@ -1,9 +1,11 @@
 package com.github.k1ritoz.vote2Sleep.platform;
 
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskHandle;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
+import java.util.Collection;
 import java.util.function.Consumer;
 
 public interface PlatformAdapter {
@@ -13,19 +15,31 @@ public interface PlatformAdapter {
     boolean isVersionSupported();
 
     // Scheduling methods for cross-platform compatibility
-    BukkitTask runTaskLater(Runnable task, long delay);
-    BukkitTask runTaskTimer(Runnable task, long delay, long period);
-    BukkitTask runTaskAsync(Runnable task);
+    TaskHandle runTaskLater(Runnable task, long delay);
+    TaskHandle runTaskTimer(Runnable task, long delay, long period);
+    TaskHandle runTaskAsync(Runnable task);
 
     // World-specific scheduling (important for Folia)
-    BukkitTask runTaskLaterForWorld(World world, Consumer<World> task, long delay);
-    BukkitTask runTaskTimerForWorld(World world, Consumer<World> task, long delay, long period);
+    TaskHandle runTaskLaterForWorld(World world, Consumer<World> task, long delay);
+    TaskHandle runTaskTimerForWorld(World world, Consumer<World> task, long delay, long period);
 
     // Player-specific scheduling (important for Folia)
-    BukkitTask runTaskLaterForPlayer(Player player, Consumer<Player> task, long delay);
+    TaskHandle runTaskLaterForPlayer(Player player, Consumer<Player> task, long delay);
 
-    // Get server TPS (if available)
-    double[] getTPS();
+    // Batch helpers: runs the task for each entity in a few batched tasks, spread over
+    // spreadTicks ticks (grouped by region on Folia)
+    <T extends Entity> TaskHandle runForEach(Collection<? extends T> entities, Consumer<? super T> task,
+                                             long delay, int spreadTicks);
+
+    // Fixed-rate timer whose first run is pushed back by up to maxJitter ticks, so timers
+    // started together do not all land on the same tick
+    TaskHandle runTaskTimerWithJitter(Runnable task, long delay, long period, long maxJitter);
+
+    // Cancels the tasks registered with TaskHandle#ownedBy(owner)
+    void cancelAll(Object owner);
+
+    // Cancels every task the plugin still has scheduled
+    void cancelAll();
 
     boolean isAsyncSafe();
-}
\ No newline at end of file
+}
@@ -1,17 +1,12 @@
 package com.github.k1ritoz.vote2Sleep.platform;
 
-import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.lang.reflect.Method;
-import java.util.function.Consumer;
 
-public class PurpurAdapter implements PlatformAdapter {
-
-    private final Vote2Sleep plugin = Vote2Sleep.getInstance();
+public class PurpurAdapter extends AbstractPlatformAdapter {
 
     @Override
     public String getPlatformName() { return "Purpur"; }
@@ -21,51 +16,6 @@ public class PurpurAdapter implements PlatformAdapter {
         return getMinecraftVersion() >= 1210;
     }
 
-    @Override
-    public BukkitTask runTaskLater(Runnable task, long delay) {
-        return Bukkit.getScheduler().runTaskLater(plugin, task, delay);
-    }
-
-    @Override
-    public BukkitTask runTaskTimer(Runnable task, long delay, long period) {
-        return Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period);
-    }
-
-    @Override
-    public BukkitTask runTaskAsync(Runnable task) {
-        return Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
-    }
-
-    @Override
-    public BukkitTask runTaskLaterForWorld(World world, Consumer<World> task, long delay) {
-        return Bukkit.getScheduler().runTaskLater(plugin, () -> task.accept(world), delay);
-    }
-
-    @Override
-    public BukkitTask runTaskTimerForWorld(World world, Consumer<World> task, long delay, long period) {
-        return Bukkit.getScheduler().runTaskTimer(plugin, () -> task.accept(world), delay, period);
-    }
-
-    @Override
-    public BukkitTask runTaskLaterForPlayer(Player player, Consumer<Player> task, long delay) {
-        return Bukkit.getScheduler().runTaskLater(plugin, () -> task.accept(player), delay);
-    }
-
-    @Override
-    public double[] getTPS() {
-        try {
-            // Try Purpur's enhanced TPS method first
-            return getPurpurTPS();
-        } catch (Exception e) {
-            // Fallback to Paper's TPS
-            try {
-                return Bukkit.getTPS();
-            } catch (Exception ex) {
-                return new double[]{20.0, 20.0, 20.0};
-            }
-        }
-    }
-
     @Override
     public boolean isAsyncSafe() {
         return true; // Bukkit/Spigot/Paper/Purpur is generally safe for async tasks
@@ -73,27 +23,6 @@ public class PurpurAdapter implements PlatformAdapter {
 
     // Purpur-specific methods
 
-    /**
-     * Get Purpur's enhanced TPS information
-     */
-    private double[] getPurpurTPS() throws Exception {
-        try {
-            // Try to access Purpur's enhanced server class
-            Class<?> purpurServerClass = Class.forName("org.purpurmc.purpur.PurpurServer");
-            Method getTpsMethod = purpurServerClass.getMethod("getTPS");
-            Object tpsResult = getTpsMethod.invoke(null);
-
-            if (tpsResult instanceof double[]) {
-                return (double[]) tpsResult;
-            }
-        } catch (ClassNotFoundException e) {
-            // Not Purpur or method doesn't exist, try Paper method
-            return Bukkit.getTPS();
-        }
-
-        return new double[]{20.0, 20.0, 20.0};
-    }
-
     /**
      * Use Purpur's optimized player operations if available
      */
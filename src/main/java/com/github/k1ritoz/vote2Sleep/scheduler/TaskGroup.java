@@ -0,0 +1,47 @@
+package com.github.k1ritoz.vote2Sleep.scheduler;
+
+import java.util.List;
+
+/**
+ * One handle for the tasks a batch helper splits its work into
+ */
+public final class TaskGroup implements TaskHandle {
+
+    private final List<TaskHandle> tasks;
+    private volatile boolean cancelled;
+
+    public TaskGroup(List<TaskHandle> tasks) {
+        this.tasks = tasks;
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        for (TaskHandle task : tasks) {
+            task.cancel();
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        for (TaskHandle task : tasks) {
+            if (!task.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public TaskHandle ownedBy(Object owner) {
+        for (TaskHandle task : tasks) {
+            task.ownedBy(owner);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.k1ritoz.vote2Sleep.scheduler;
+
+/**
+ * Plugin-owned handle of a scheduled task, independent of the platform scheduler
+ * (Bukkit or Folia) that runs it. Cancelling is idempotent and never blocks.
+ */
+public interface TaskHandle {
+
+    void cancel();
+
+    boolean isCancelled();
+
+    /**
+     * True once a one-shot task has run, or once the task has been cancelled
+     */
+    boolean isDone();
+
+    /**
+     * Registers the task under an owner key, so every task of that owner can be
+     * cancelled at once with PlatformAdapter#cancelAll(Object)
+     */
+    TaskHandle ownedBy(Object owner);
+}
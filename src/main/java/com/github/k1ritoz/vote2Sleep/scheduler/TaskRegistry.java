@@ -0,0 +1,165 @@
+package com.github.k1ritoz.vote2Sleep.scheduler;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Tracks every task a platform adapter schedules until it finishes, so tasks can be
+ * cancelled per owner key or all together when the plugin shuts down.
+ */
+public final class TaskRegistry {
+
+    private final Set<TrackedTask> active = ConcurrentHashMap.newKeySet();
+    private final Map<Object, Set<TrackedTask>> owned = new ConcurrentHashMap<>();
+
+    /**
+     * Schedules a task through the given platform call and tracks it. The call receives
+     * the wrapped task and returns how to cancel it, or null when nothing was scheduled.
+     */
+    public TaskHandle track(Runnable task, boolean repeating, Function<Runnable, Runnable> platform) {
+        return track(task, repeating, (wrapped, retired) -> platform.apply(wrapped));
+    }
+
+    /**
+     * Like {@link #track(Runnable, boolean, Function)}, for platforms that can drop a task without
+     * running it (e.g. when its entity is removed). The call also receives a callback that marks
+     * the handle as done, so a dropped task does not stay tracked forever.
+     */
+    public TaskHandle track(Runnable task, boolean repeating, BiFunction<Runnable, Runnable, Runnable> platform) {
+        TrackedTask handle = new TrackedTask(this, repeating);
+        active.add(handle);
+
+        Runnable canceller = platform.apply(handle.wrap(task), handle::retire);
+        if (canceller == null) {
+            handle.finish(TrackedTask.DONE);
+        } else {
+            handle.bind(canceller);
+        }
+        return handle;
+    }
+
+    public void cancelAll(Object owner) {
+        Set<TrackedTask> tasks = owned.remove(owner);
+        if (tasks != null) {
+            tasks.forEach(TrackedTask::cancel);
+        }
+    }
+
+    public void cancelAll() {
+        active.forEach(TrackedTask::cancel);
+        owned.clear();
+    }
+
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    private void own(Object owner, TrackedTask task) {
+        owned.computeIfAbsent(owner, k -> ConcurrentHashMap.newKeySet()).add(task);
+    }
+
+    private void untrack(TrackedTask task) {
+        active.remove(task);
+
+        Object owner = task.owner;
+        if (owner != null) {
+            owned.computeIfPresent(owner, (k, tasks) -> {
+                tasks.remove(task);
+                return tasks.isEmpty() ? null : tasks;
+            });
+        }
+    }
+
+    private static final class TrackedTask implements TaskHandle {
+
+        private static final int PENDING = 0;
+        private static final int DONE = 1;
+        private static final int CANCELLED = 2;
+
+        private static final AtomicIntegerFieldUpdater<TrackedTask> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(TrackedTask.class, "state");
+
+        private final TaskRegistry registry;
+        private final boolean repeating;
+        private volatile int state = PENDING;
+        private volatile Runnable canceller;
+        private volatile Object owner;
+
+        private TrackedTask(TaskRegistry registry, boolean repeating) {
+            this.registry = registry;
+            this.repeating = repeating;
+        }
+
+        private Runnable wrap(Runnable task) {
+            return () -> {
+                if (state != PENDING) {
+                    return;
+                }
+                try {
+                    task.run();
+                } finally {
+                    if (!repeating) {
+                        finish(DONE);
+                    }
+                }
+            };
+        }
+
+        private void bind(Runnable canceller) {
+            this.canceller = canceller;
+            // cancel() may have run before the platform task existed
+            if (state == CANCELLED) {
+                canceller.run();
+            }
+        }
+
+        private void retire() {
+            finish(DONE);
+        }
+
+        private boolean finish(int newState) {
+            if (STATE.compareAndSet(this, PENDING, newState)) {
+                registry.untrack(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void cancel() {
+            if (finish(CANCELLED)) {
+                Runnable c = canceller;
+                if (c != null) {
+                    c.run();
+                }
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state != PENDING;
+        }
+
+        @Override
+        public TaskHandle ownedBy(Object owner) {
+            if (state == PENDING && this.owner == null) {
+                this.owner = owner;
+                registry.own(owner, this);
+                // Finished while being registered
+                if (state != PENDING) {
+                    registry.untrack(this);
+                }
+            }
+            return this;
+        }
+    }
+}
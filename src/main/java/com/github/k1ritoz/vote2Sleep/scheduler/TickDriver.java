@@ -0,0 +1,77 @@
+package com.github.k1ritoz.vote2Sleep.scheduler;
+
+import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+
+/**
+ * Plugin-wide one-tick heartbeat on the global scheduler (global region thread on Folia).
+ * Deadlines are kept in a {@link TimingWheel} instead of one scheduler task each.
+ */
+public class TickDriver {
+
+    private final Vote2Sleep plugin;
+    private final TimingWheel wheel;
+    private final List<Runnable> tickListeners = new CopyOnWriteArrayList<>();
+    private TaskHandle task;
+
+    public TickDriver(Vote2Sleep plugin) {
+        this.plugin = plugin;
+        this.wheel = new TimingWheel(plugin.getLogger());
+    }
+
+    public void start() {
+        if (task == null) {
+            task = plugin.getPlatformAdapter().runTaskTimer(this::tick, 1L, 1L);
+        }
+    }
+
+    private void tick() {
+        wheel.tick();
+
+        for (Runnable listener : tickListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Error in tick listener: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Runs the listener once per tick, after the deadlines due in that tick
+     */
+    public void addTickListener(Runnable listener) {
+        tickListeners.add(listener);
+    }
+
+    public void removeTickListener(Runnable listener) {
+        tickListeners.remove(listener);
+    }
+
+    /**
+     * Creates an unscheduled timeout; call {@link TimingWheel.Timeout#schedule(long)} to arm it
+     */
+    public TimingWheel.Timeout newTimeout(Runnable task) {
+        return wheel.newTimeout(task);
+    }
+
+    public long getCurrentTick() {
+        return wheel.getCurrentTick();
+    }
+
+    public int getPendingCount() {
+        return wheel.getPendingCount();
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        wheel.clear();
+        tickListeners.clear();
+    }
+}
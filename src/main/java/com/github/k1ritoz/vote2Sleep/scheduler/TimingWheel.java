@@ -0,0 +1,205 @@
+package com.github.k1ritoz.vote2Sleep.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hashed timing wheel advanced one slot per server tick.
+ * Scheduling, rescheduling and cancelling a {@link Timeout} are O(1): a timeout
+ * is an intrusive list node that is simply moved between slots.
+ *
+ * <p>Timeouts may be (re)scheduled from any thread. Expired tasks are run by
+ * {@link #tick()} outside of the lock; a generation stamp makes sure a timeout
+ * that was rescheduled or cancelled after it expired is not run with stale state.</p>
+ */
+public final class TimingWheel {
+
+    // Must be a power of two; deadlines further out simply stay in their slot for extra rounds
+    private static final int WHEEL_SIZE = 128;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final Logger logger;
+    private final Timeout[] slots = new Timeout[WHEEL_SIZE];
+    private long currentTick;
+    private int pending;
+
+    public TimingWheel(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Creates an unscheduled timeout bound to this wheel
+     */
+    public Timeout newTimeout(Runnable task) {
+        return new Timeout(this, task);
+    }
+
+    private synchronized void schedule(Timeout timeout, long delayTicks) {
+        unlink(timeout);
+
+        timeout.deadline = currentTick + Math.max(1L, delayTicks);
+        timeout.generation++;
+        link(timeout, (int) (timeout.deadline & MASK));
+    }
+
+    private synchronized void cancel(Timeout timeout) {
+        unlink(timeout);
+        timeout.generation++;
+    }
+
+    private void link(Timeout timeout, int slot) {
+        Timeout head = slots[slot];
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[slot] = timeout;
+        pending++;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.slot < 0) {
+            return;
+        }
+
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.slot = -1;
+        pending--;
+    }
+
+    /**
+     * Advances the wheel by one tick and runs every timeout that is due
+     */
+    public void tick() {
+        List<Timeout> expired = null;
+        List<Long> generations = null;
+
+        synchronized (this) {
+            currentTick++;
+
+            Timeout timeout = slots[(int) (currentTick & MASK)];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.deadline <= currentTick) {
+                    unlink(timeout);
+                    if (expired == null) {
+                        expired = new ArrayList<>(4);
+                        generations = new ArrayList<>(4);
+                    }
+                    expired.add(timeout);
+                    generations.add(timeout.generation);
+                }
+                timeout = next;
+            }
+        }
+
+        if (expired == null) {
+            return;
+        }
+
+        for (int i = 0; i < expired.size(); i++) {
+            Timeout timeout = expired.get(i);
+            // Skip timeouts that were rescheduled or cancelled after they expired
+            if (timeout.isCurrent(generations.get(i))) {
+                try {
+                    timeout.task.run();
+                } catch (Exception e) {
+                    // One failing deadline must not starve the others due in the same tick
+                    logger.log(Level.WARNING, "Error in scheduled task: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    public synchronized long getCurrentTick() {
+        return currentTick;
+    }
+
+    public synchronized int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Cancels every scheduled timeout
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            Timeout timeout = slots[i];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.slot = -1;
+                timeout.generation++;
+                timeout = next;
+            }
+            slots[i] = null;
+        }
+        pending = 0;
+    }
+
+    /**
+     * A reusable deadline in a {@link TimingWheel}
+     */
+    public static final class Timeout {
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private long deadline;
+        private long generation;
+        private int slot = -1;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheel wheel, Runnable task) {
+            this.wheel = wheel;
+            this.task = task;
+        }
+
+        /**
+         * Schedules the task to run after the given number of ticks, replacing any previous deadline
+         */
+        public void schedule(long delayTicks) {
+            wheel.schedule(this, delayTicks);
+        }
+
+        public void cancel() {
+            wheel.cancel(this);
+        }
+
+        public boolean isPending() {
+            synchronized (wheel) {
+                return slot >= 0;
+            }
+        }
+
+        /**
+         * Ticks left until the task runs, or -1 if it isn't scheduled
+         */
+        public long getRemainingTicks() {
+            synchronized (wheel) {
+                return slot >= 0 ? Math.max(0L, deadline - wheel.currentTick) : -1L;
+            }
+        }
+
+        private boolean isCurrent(long expectedGeneration) {
+            synchronized (wheel) {
+                return slot < 0 && generation == expectedGeneration;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.k1ritoz.vote2Sleep.utils;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+
+/**
+ * Adventure-backed delivery of pre-rendered legacy text, titles and sounds.
+ * Callers must check that Adventure is present before touching this class,
+ * so servers without it (plain Spigot) never load the Adventure types.
+ */
+public final class ComponentMessages {
+
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private ComponentMessages() {
+    }
+
+    /**
+     * Parses section-coded text into a component once, for sending to any number of viewers
+     */
+    public static Component fromLegacy(String text) {
+        return LegacyComponentSerializer.legacySection().deserialize(text);
+    }
+
+    /**
+     * Sends the text to every member of the audience as a single pre-built component
+     */
+    public static void send(Audience audience, String text) {
+        audience.sendMessage(fromLegacy(text));
+    }
+
+    public static void sendAll(Iterable<? extends Player> players, String text) {
+        send(Audience.audience(players), text);
+    }
+
+    public static void sendActionBar(Audience audience, String text) {
+        audience.sendActionBar(fromLegacy(text));
+    }
+
+    /**
+     * Shows one title, built once, to every member of the audience. Durations are in ticks.
+     */
+    public static void showTitle(Audience audience, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+        Title.Times times = Title.Times.times(
+                Duration.ofMillis(fadeIn * MILLIS_PER_TICK),
+                Duration.ofMillis(stay * MILLIS_PER_TICK),
+                Duration.ofMillis(fadeOut * MILLIS_PER_TICK));
+        audience.showTitle(Title.title(fromLegacy(title), fromLegacy(subtitle), times));
+    }
+
+    /**
+     * Plays the sound to every member of the audience at their own position
+     */
+    public static void playSound(Audience audience, org.bukkit.Sound sound, float volume, float pitch) {
+        audience.playSound(Sound.sound(sound.getKey(), Sound.Source.MASTER, volume, pitch));
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.k1ritoz.vote2Sleep.utils;
+
+/**
+ * Typed placeholder values for rendering a {@link MessageTemplate}.
+ * Numbers are stored unboxed and appended without intermediate strings.
+ */
+public final class MessageArgs {
+
+    private final String[] strings = new String[Placeholder.count()];
+    private final long[] numbers = new long[Placeholder.count()];
+    private long numberMask;
+
+    public static MessageArgs of(Placeholder placeholder, String value) {
+        return new MessageArgs().with(placeholder, value);
+    }
+
+    public static MessageArgs of(Placeholder placeholder, long value) {
+        return new MessageArgs().with(placeholder, value);
+    }
+
+    public MessageArgs with(Placeholder placeholder, String value) {
+        int index = placeholder.ordinal();
+        strings[index] = value;
+        numberMask &= ~(1L << index);
+        return this;
+    }
+
+    public MessageArgs with(Placeholder placeholder, long value) {
+        int index = placeholder.ordinal();
+        numbers[index] = value;
+        strings[index] = null;
+        numberMask |= 1L << index;
+        return this;
+    }
+
+    /**
+     * Appends the value of a placeholder, returning false if no value was set
+     */
+    boolean appendTo(StringBuilder builder, Placeholder placeholder) {
+        int index = placeholder.ordinal();
+        if ((numberMask & (1L << index)) != 0) {
+            builder.append(numbers[index]);
+            return true;
+        }
+
+        String value = strings[index];
+        if (value != null) {
+            builder.append(value);
+            return true;
+        }
+        return false;
+    }
+}
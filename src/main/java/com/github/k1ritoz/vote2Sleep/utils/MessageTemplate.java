@@ -0,0 +1,182 @@
+package com.github.k1ritoz.vote2Sleep.utils;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message compiled once at load time into literal segments and placeholder slots.
+ * Color codes are translated during compilation, so rendering is a single StringBuilder pass.
+ */
+public final class MessageTemplate {
+
+    private final String text;
+    private final String[] literals;
+    private final Placeholder[] slots;
+    private final boolean placeholderApiTokens;
+    // {tokens} outside the Placeholder enum, only substituted by name-keyed maps
+    private final boolean customTokens;
+
+    private MessageTemplate(String text, String[] literals, Placeholder[] slots) {
+        this.text = text;
+        this.literals = literals;
+        this.slots = slots;
+        this.placeholderApiTokens = containsPlaceholderApiToken(literals);
+        this.customTokens = containsCustomToken(literals);
+    }
+
+    private static boolean containsCustomToken(String[] literals) {
+        for (String literal : literals) {
+            int open = literal.indexOf('{');
+            if (open >= 0 && literal.indexOf('}', open + 1) > open) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * PlaceholderAPI tokens look like %identifier_params%; only literal text can contain them.
+     * Every %...% pair is checked, skipping an escaped %% so it doesn't hide a later token.
+     */
+    private static boolean containsPlaceholderApiToken(String[] literals) {
+        for (String literal : literals) {
+            int open = literal.indexOf('%');
+            while (open >= 0) {
+                int close = literal.indexOf('%', open + 1);
+                if (close < 0) {
+                    break;
+                }
+                if (close > open + 1) {
+                    return true;
+                }
+                open = literal.indexOf('%', close + 1);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compiles a raw message using '&' color codes and {placeholder} tokens
+     */
+    public static MessageTemplate compile(String raw) {
+        String text = ChatColor.translateAlternateColorCodes('&', raw);
+
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> slots = new ArrayList<>();
+
+        int literalStart = 0;
+        int open = text.indexOf('{');
+        while (open >= 0) {
+            int close = text.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+
+            Placeholder placeholder = Placeholder.fromToken(text.substring(open + 1, close));
+            if (placeholder != null) {
+                literals.add(text.substring(literalStart, open));
+                slots.add(placeholder);
+                literalStart = close + 1;
+                open = text.indexOf('{', literalStart);
+            } else {
+                // Unknown tokens stay part of the literal text
+                open = text.indexOf('{', open + 1);
+            }
+        }
+        literals.add(text.substring(literalStart));
+
+        return new MessageTemplate(text,
+                literals.toArray(new String[0]),
+                slots.toArray(new Placeholder[0]));
+    }
+
+    /**
+     * The translated message with placeholder tokens left in place
+     */
+    public String getText() {
+        return text;
+    }
+
+    public boolean hasSlots() {
+        return slots.length > 0;
+    }
+
+    /**
+     * Whether the text contains %...% tokens that PlaceholderAPI has to resolve
+     */
+    public boolean usesPlaceholderApi() {
+        return placeholderApiTokens;
+    }
+
+    public String render(MessageArgs args) {
+        if (slots.length == 0 || args == null) {
+            return text;
+        }
+
+        StringBuilder builder = new StringBuilder(text.length() + slots.length * 8);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            if (!args.appendTo(builder, slots[i])) {
+                // Leave unset placeholders untouched, as before
+                builder.append('{').append(slots[i].getToken()).append('}');
+            }
+        }
+        builder.append(literals[slots.length]);
+        return builder.toString();
+    }
+
+    /**
+     * Renders using name-keyed values (kept for callers still passing maps). Like the old
+     * string replacement, any {key} in the map is substituted, not only Placeholder tokens.
+     */
+    public String render(Map<String, String> placeholders) {
+        if ((slots.length == 0 && !customTokens) || placeholders == null || placeholders.isEmpty()) {
+            return text;
+        }
+
+        StringBuilder builder = new StringBuilder(text.length() + slots.length * 8);
+        for (int i = 0; i < slots.length; i++) {
+            appendLiteral(builder, literals[i], placeholders);
+            String value = placeholders.get(slots[i].getToken());
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append('{').append(slots[i].getToken()).append('}');
+            }
+        }
+        appendLiteral(builder, literals[slots.length], placeholders);
+        return builder.toString();
+    }
+
+    /**
+     * Appends literal text, substituting custom {tokens} found in the map
+     */
+    private void appendLiteral(StringBuilder builder, String literal, Map<String, String> placeholders) {
+        if (!customTokens) {
+            builder.append(literal);
+            return;
+        }
+
+        int start = 0;
+        int open = literal.indexOf('{');
+        while (open >= 0) {
+            int close = literal.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+
+            String value = placeholders.get(literal.substring(open + 1, close));
+            if (value != null) {
+                builder.append(literal, start, open).append(value);
+                start = close + 1;
+                open = literal.indexOf('{', start);
+            } else {
+                open = literal.indexOf('{', open + 1);
+            }
+        }
+        builder.append(literal, start, literal.length());
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.k1ritoz.vote2Sleep.utils;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Placeholders understood by message templates, written as {name} in the message files
+ */
+public enum Placeholder {
+    PLAYER,
+    WORLD,
+    CURRENT,
+    REQUIRED,
+    REMAINING,
+    SECONDS,
+    ADMIN,
+    STATUS,
+    PROGRESS,
+    TIME,
+    VERSION,
+    PLATFORM,
+    COUNT,
+    TPS,
+    MSPT,
+    MSPT_P95,
+    SKIPS,
+    TYPE,
+    DROPPED;
+
+    private static final Placeholder[] VALUES = values();
+    private static final Map<String, Placeholder> BY_TOKEN = new HashMap<>();
+
+    static {
+        for (Placeholder placeholder : VALUES) {
+            BY_TOKEN.put(placeholder.token, placeholder);
+        }
+    }
+
+    private final String token;
+
+    Placeholder() {
+        this.token = name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Name used between the braces, e.g. "current" for {current}
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Resolves a token name, or null if it is not a known placeholder
+     */
+    public static Placeholder fromToken(String token) {
+        return BY_TOKEN.get(token);
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+}
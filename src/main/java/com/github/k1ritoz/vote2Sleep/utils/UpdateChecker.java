@@ -1,8 +1,8 @@
 package com.github.k1ritoz.vote2Sleep.utils;
 
 import com.github.k1ritoz.vote2Sleep.Vote2Sleep;
+import com.github.k1ritoz.vote2Sleep.scheduler.TaskHandle;
 import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
@@ -17,7 +17,7 @@ public class UpdateChecker {
     private final String githubApiUrl;
 
     // Task for periodic update checks
-    private BukkitTask updateCheckTask;
+    private TaskHandle updateCheckTask;
 
     // Cache latest version to avoid spamming console
     private String cachedLatestVersion = null;
@@ -55,7 +55,7 @@ public class UpdateChecker {
      * Stops periodic update checking
      */
     public void stopPeriodicChecking() {
-        if (updateCheckTask != null && !updateCheckTask.isCancelled()) {
+        if (updateCheckTask != null) {
             updateCheckTask.cancel();
             updateCheckTask = null;
         }
@@ -0,0 +1,122 @@
+package com.github.k1ritoz.vote2Sleep.utils;
+
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+
+/**
+ * Sends one payload to every player in a world. On Paper and its forks the world
+ * is an Adventure audience, so the payload is built once and fanned out in a
+ * single call; on plain Spigot it falls back to a loop over the players.
+ */
+public final class WorldBroadcast {
+
+    // Worlds and players are Adventure audiences on Paper and its forks, but not on plain Spigot
+    private static final boolean ADVENTURE = detectAdventure();
+
+    private WorldBroadcast() {
+    }
+
+    private static boolean detectAdventure() {
+        try {
+            Class<?> audience = Class.forName("net.kyori.adventure.audience.Audience");
+            Class.forName("net.kyori.adventure.title.Title");
+            Class.forName("net.kyori.adventure.sound.Sound");
+            Class.forName("net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer");
+            return audience.isAssignableFrom(World.class) && audience.isAssignableFrom(Player.class);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static boolean isAdventureAvailable() {
+        return ADVENTURE;
+    }
+
+    public static void message(World world, String text) {
+        if (ADVENTURE) {
+            ComponentMessages.send(world, text);
+            return;
+        }
+
+        for (Player player : world.getPlayers()) {
+            player.sendMessage(text);
+        }
+    }
+
+    /**
+     * Sends the text to a subset of players, still building the component only once
+     */
+    public static void message(Collection<? extends Player> players, String text) {
+        if (ADVENTURE) {
+            ComponentMessages.sendAll(players, text);
+            return;
+        }
+
+        for (Player player : players) {
+            player.sendMessage(text);
+        }
+    }
+
+    public static void actionBar(World world, String text) {
+        if (ADVENTURE) {
+            ComponentMessages.sendActionBar(world, text);
+            return;
+        }
+
+        net.md_5.bungee.api.chat.TextComponent component = new net.md_5.bungee.api.chat.TextComponent(text);
+        for (Player player : world.getPlayers()) {
+            try {
+                player.spigot().sendMessage(net.md_5.bungee.api.ChatMessageType.ACTION_BAR, component);
+            } catch (Exception e) {
+                // Fallback to chat message if action bar is not supported
+                player.sendMessage(text);
+            }
+        }
+    }
+
+    public static void actionBar(Player player, String text) {
+        if (ADVENTURE) {
+            ComponentMessages.sendActionBar(player, text);
+            return;
+        }
+
+        try {
+            player.spigot().sendMessage(net.md_5.bungee.api.ChatMessageType.ACTION_BAR,
+                    new net.md_5.bungee.api.chat.TextComponent(text));
+        } catch (Exception e) {
+            // Fallback to chat message if action bar is not supported
+            player.sendMessage(text);
+        }
+    }
+
+    /**
+     * Shows a title to the whole world. Durations are in ticks.
+     */
+    public static void title(World world, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+        if (ADVENTURE) {
+            ComponentMessages.showTitle(world, title, subtitle, fadeIn, stay, fadeOut);
+            return;
+        }
+
+        for (Player player : world.getPlayers()) {
+            player.sendTitle(title, subtitle, fadeIn, stay, fadeOut);
+        }
+    }
+
+    /**
+     * Plays a sound to every player in the world at their own position
+     */
+    public static void sound(World world, Sound sound, float volume, float pitch) {
+        if (ADVENTURE) {
+            ComponentMessages.playSound(world, sound, volume, pitch);
+            return;
+        }
+
+        for (Player player : world.getPlayers()) {
+            player.playSound(player.getLocation(), sound, volume, pitch);
+        }
+    }
+}
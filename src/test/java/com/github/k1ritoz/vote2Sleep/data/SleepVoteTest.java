@@ -0,0 +1,75 @@
+package com.github.k1ritoz.vote2Sleep.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SleepVoteTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    private final UUID player = UUID.randomUUID();
+    private final UUID world = UUID.randomUUID();
+    private final SleepVote vote = new SleepVote(player, "Alice", 1_000L, world, 1.5, 64.0, -3.25);
+
+    @Test
+    void idComparisonsMatchTheUuidGetters() {
+        assertTrue(vote.isPlayer(player));
+        assertTrue(vote.isPlayer(new UUID(player.getMostSignificantBits(), player.getLeastSignificantBits())));
+        assertFalse(vote.isPlayer(world));
+        assertFalse(vote.isPlayer(new UUID(player.getMostSignificantBits(), ~player.getLeastSignificantBits())));
+
+        assertTrue(vote.isWorld(world));
+        assertFalse(vote.isWorld(player));
+
+        assertEquals(player, vote.getPlayerUUID());
+        assertEquals(world, vote.getWorldUUID());
+        assertNotSame(vote.getPlayerUUID(), vote.getPlayerUUID());
+    }
+
+    /**
+     * Allocation harness: the id comparisons used on the skip path must not allocate.
+     * {@code getPlayerUUID().equals(...)} allocates 32 bytes per call unless the JIT happens to
+     * eliminate it, so 200k calls of that would show up as megabytes here.
+     */
+    @Test
+    void idComparisonsDoNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        UUID other = UUID.randomUUID();
+        long threadId = Thread.currentThread().getId();
+
+        // Warm up so the measured loop doesn't count class loading or compilation
+        int matches = compare(other);
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        matches += compare(other);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(2 * ITERATIONS, matches);
+        assertTrue(allocated < 16 * 1024, "isPlayer/isWorld allocated " + allocated + " bytes");
+    }
+
+    private int compare(UUID other) {
+        int matches = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (vote.isPlayer(player)) {
+                matches++;
+            }
+            if (vote.isWorld(other)) {
+                matches--;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.k1ritoz.vote2Sleep.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class WorldDataTest {
+
+    private final UUID world = UUID.randomUUID();
+
+    @Test
+    void viewIsLiveAndReadOnly() {
+        WorldData data = new WorldData(null);
+        Map<UUID, SleepVote> view = data.getVotes();
+
+        UUID player = UUID.randomUUID();
+        data.addVote(vote(player));
+
+        assertSame(view, data.getVotes());
+        assertEquals(1, view.size());
+        assertTrue(data.hasPlayerVoted(player));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(player));
+
+        data.removeVote(player);
+        assertTrue(view.isEmpty());
+        assertTrue(data.isEmpty());
+    }
+
+    @Test
+    void snapshotIsDetachedFromLaterChanges() {
+        WorldData data = new WorldData(null);
+        data.addVote(vote(UUID.randomUUID()));
+
+        List<SleepVote> snapshot = data.snapshotVotes();
+        data.addVote(vote(UUID.randomUUID()));
+        data.clearVotes();
+
+        assertEquals(1, snapshot.size());
+        assertEquals(0, data.getVoteCount());
+    }
+
+    @Test
+    void voterIdSnapshotReusesTheMapKeys() {
+        WorldData data = new WorldData(null);
+        UUID player = UUID.randomUUID();
+        data.addVote(vote(player));
+
+        List<UUID> first = data.snapshotVoterIds();
+        List<UUID> second = data.snapshotVoterIds();
+        data.clearVotes();
+
+        assertEquals(List.of(player), first);
+        assertSame(first.get(0), second.get(0));
+    }
+
+    @Test
+    void revotingReplacesThePreviousVote() {
+        WorldData data = new WorldData(null);
+        UUID player = UUID.randomUUID();
+
+        data.addVote(vote(player));
+        SleepVote second = vote(player);
+        data.addVote(second);
+
+        assertEquals(1, data.getVoteCount());
+        assertSame(second, data.getVote(player));
+    }
+
+    /**
+     * Allocation harness: reading the count and the view must not copy the votes, so the
+     * hot-path reads cost the same with ten votes as with two thousand
+     */
+    @Test
+    void countAndViewDoNotAllocateWithManyVotes() {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+
+        assertTrue(readAllocation(threads, filled(10)) < 16 * 1024);
+        assertTrue(readAllocation(threads, filled(2_000)) < 16 * 1024);
+    }
+
+    /**
+     * Casting one more vote costs a map node and its key, not a copy of the existing votes
+     */
+    @Test
+    void castingAVoteAllocatesIndependentlyOfExistingVotes() {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+
+        // Both sizes stay below their map's resize threshold, so neither add grows the table
+        long few = addAllocation(threads, filled(5));
+        long many = addAllocation(threads, filled(1_000));
+
+        assertTrue(few < 1024, "adding to 5 votes allocated " + few + " bytes");
+        assertTrue(many < 1024, "adding to 1000 votes allocated " + many + " bytes");
+    }
+
+    private long readAllocation(com.sun.management.ThreadMXBean threads, WorldData data) {
+        int expected = data.getVoteCount();
+        // Warm up so the measured loop doesn't count class loading or compilation
+        readSizes(data, expected);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        readSizes(data, expected);
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private void readSizes(WorldData data, int expected) {
+        for (int i = 0; i < 50_000; i++) {
+            if (data.getVoteCount() != expected || data.getVotes().size() != expected) {
+                throw new AssertionError("vote count changed");
+            }
+        }
+    }
+
+    private long addAllocation(com.sun.management.ThreadMXBean threads, WorldData data) {
+        SleepVote vote = vote(UUID.randomUUID());
+        long threadId = Thread.currentThread().getId();
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        data.addVote(vote);
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        return threads;
+    }
+
+    private WorldData filled(int votes) {
+        WorldData data = new WorldData(null);
+        for (int i = 0; i < votes; i++) {
+            data.addVote(vote(UUID.randomUUID()));
+        }
+        assertFalse(data.isEmpty());
+        return data;
+    }
+
+    private SleepVote vote(UUID player) {
+        return new SleepVote(player, "player", System.currentTimeMillis(), world, 0, 64, 0);
+    }
+}
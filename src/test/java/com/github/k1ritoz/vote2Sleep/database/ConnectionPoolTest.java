@@ -0,0 +1,183 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionPoolTest {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPoolTest.class.getName());
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+
+    @Test
+    void borrowIsBoundedByMaxSize() throws SQLException {
+        ConnectionPool pool = newPool(2, 50L);
+
+        ConnectionPool.Lease first = pool.borrow();
+        ConnectionPool.Lease second = pool.borrow();
+
+        assertEquals(2, pool.getOpenConnections());
+        assertEquals(2, created.get());
+        assertThrows(SQLException.class, pool::borrow);
+        assertEquals(2, pool.getOpenConnections());
+
+        first.close();
+        second.close();
+        pool.close();
+    }
+
+    @Test
+    void borrowTimesOutWhenExhausted() throws SQLException {
+        ConnectionPool pool = newPool(1, 100L);
+
+        try (ConnectionPool.Lease ignored = pool.borrow()) {
+            long start = System.nanoTime();
+            SQLException error = assertThrows(SQLException.class, pool::borrow);
+            long waitedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+            assertTrue(error.getMessage().contains("Timed out"));
+            assertTrue(waitedMillis >= 90L, "waited only " + waitedMillis + " ms");
+        }
+        pool.close();
+    }
+
+    @Test
+    void returnedConnectionIsReused() throws SQLException {
+        ConnectionPool pool = newPool(1, 50L);
+
+        Connection connection;
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            connection = lease.get();
+        }
+        assertEquals(1, pool.getIdleConnections());
+
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            assertSame(connection, lease.get());
+            assertEquals(0, pool.getIdleConnections());
+        }
+        assertEquals(1, created.get());
+        pool.close();
+    }
+
+    @Test
+    void returnWakesWaitingBorrower() throws Exception {
+        ConnectionPool pool = newPool(1, 5_000L);
+        ConnectionPool.Lease held = pool.borrow();
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            held.close();
+        });
+        releaser.start();
+
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            assertSame(held.get(), lease.get());
+        }
+        releaser.join();
+        pool.close();
+    }
+
+    @Test
+    void closingLeaseTwiceReturnsOnce() throws SQLException {
+        ConnectionPool pool = newPool(2, 50L);
+
+        ConnectionPool.Lease lease = pool.borrow();
+        lease.close();
+        lease.close();
+
+        assertEquals(1, pool.getIdleConnections());
+        assertEquals(1, pool.getOpenConnections());
+        pool.close();
+    }
+
+    @Test
+    void invalidatedConnectionIsClosedInsteadOfReturned() throws SQLException {
+        ConnectionPool pool = newPool(1, 50L);
+
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            lease.invalidate();
+        }
+
+        assertEquals(0, pool.getIdleConnections());
+        assertEquals(0, pool.getOpenConnections());
+        assertEquals(1, closed.get());
+        pool.close();
+    }
+
+    @Test
+    void closeReleasesIdleConnectionsAndRejectsBorrowers() throws SQLException {
+        ConnectionPool pool = newPool(2, 50L);
+
+        ConnectionPool.Lease idle = pool.borrow();
+        ConnectionPool.Lease inUse = pool.borrow();
+        idle.close();
+
+        pool.close();
+        assertEquals(1, closed.get());
+        assertEquals(1, pool.getOpenConnections());
+
+        SQLException error = assertThrows(SQLException.class, pool::borrow);
+        assertTrue(error.getMessage().contains("closed"));
+
+        // Leases still out when the pool closed are closed on return
+        inUse.close();
+        assertEquals(2, closed.get());
+        assertEquals(0, pool.getOpenConnections());
+        assertFalse(pool.getIdleConnections() > 0);
+    }
+
+    @Test
+    void failedCreateDoesNotLeakCapacity() throws SQLException {
+        ConnectionPool pool = new ConnectionPool(() -> {
+            throw new SQLException("unreachable");
+        }, LOGGER, 1, 60_000L, 50L);
+
+        assertThrows(SQLException.class, pool::borrow);
+        assertThrows(SQLException.class, pool::borrow);
+        assertEquals(0, pool.getOpenConnections());
+        pool.close();
+    }
+
+    private ConnectionPool newPool(int maxSize, long connectionTimeoutMillis) {
+        return new ConnectionPool(this::newConnection, LOGGER, maxSize, 60_000L, connectionTimeoutMillis);
+    }
+
+    // Only the methods the pool touches are answered, which is enough to track open and closed connections
+    private Connection newConnection() {
+        created.incrementAndGet();
+        boolean[] isClosed = {false};
+
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        if (!isClosed[0]) {
+                            isClosed[0] = true;
+                            closed.incrementAndGet();
+                        }
+                        yield null;
+                    }
+                    case "isClosed" -> isClosed[0];
+                    case "isValid", "getAutoCommit" -> !isClosed[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "TestConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
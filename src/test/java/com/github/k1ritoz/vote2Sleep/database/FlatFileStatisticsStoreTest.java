@@ -0,0 +1,101 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlatFileStatisticsStoreTest {
+
+    private static final Logger LOGGER = Logger.getLogger(FlatFileStatisticsStoreTest.class.getName());
+
+    @TempDir
+    Path dataFolder;
+
+    private final UUID world = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    void countsSurviveARestart() throws StorageException {
+        FlatFileStatisticsStore store = open();
+        SkipEventRecord night = skip("NIGHT", new VoteRecord(alice, "Alice", 1L, 0, 64, 0));
+        long id = store.appendSkipEvent(night);
+        store.appendVotes(id, night.getVotes());
+        store.appendAll(List.of(
+                skip("STORM", new VoteRecord(alice, "Alice", 2L, 0, 64, 0), new VoteRecord(bob, "Bob", 3L, 5, 70, 5)),
+                skip("NIGHT")));
+        store.close();
+
+        FlatFileStatisticsStore reopened = open();
+        assertEquals(3L, reopened.getTotalSkipCount());
+        assertEquals(3L, reopened.getSkipCount(world));
+        assertEquals(2L, reopened.getVoteCount(alice));
+        assertEquals(1L, reopened.getVoteCount(bob));
+        assertEquals(Map.of("NIGHT", 2L, "STORM", 1L), reopened.getSkipCountsByType());
+
+        // Ids continue after the ones already in the log
+        assertEquals(4L, reopened.appendSkipEvent(skip("NIGHT")));
+        reopened.close();
+    }
+
+    @Test
+    void separatorsInNamesDoNotBreakTheLog() throws StorageException {
+        FlatFileStatisticsStore store = open();
+        store.appendAll(List.of(new SkipEventRecord("my\tworld\n", world, 1L, "NIGHT",
+                List.of(new VoteRecord(alice, "Al\tice", 1L, 0, 64, 0)))));
+        store.close();
+
+        FlatFileStatisticsStore reopened = open();
+        assertEquals(1L, reopened.getTotalSkipCount());
+        assertEquals(1L, reopened.getVoteCount(alice));
+        reopened.close();
+    }
+
+    @Test
+    void malformedLinesAreSkipped() throws StorageException, IOException {
+        FlatFileStatisticsStore store = open();
+        store.appendSkipEvent(skip("NIGHT"));
+        store.close();
+
+        Files.writeString(dataFolder.resolve("statistics.log"), "garbage\nS\tnot-a-number\t0\t-\t0\tNIGHT\tworld\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        FlatFileStatisticsStore reopened = open();
+        assertEquals(1L, reopened.getTotalSkipCount());
+        reopened.close();
+    }
+
+    @Test
+    void createsMissingDataFolder() throws StorageException {
+        File nested = dataFolder.resolve("plugins").resolve("Vote2Sleep").toFile();
+        FlatFileStatisticsStore store = new FlatFileStatisticsStore(nested, LOGGER);
+        store.initialize();
+        store.appendSkipEvent(skip("NIGHT"));
+        store.close();
+
+        assertTrue(new File(nested, "statistics.log").isFile());
+    }
+
+    private FlatFileStatisticsStore open() throws StorageException {
+        FlatFileStatisticsStore store = new FlatFileStatisticsStore(dataFolder.toFile(), LOGGER);
+        store.initialize();
+        return store;
+    }
+
+    private SkipEventRecord skip(String type, VoteRecord... votes) {
+        return new SkipEventRecord("world", world, System.currentTimeMillis(), type, List.of(votes));
+    }
+}
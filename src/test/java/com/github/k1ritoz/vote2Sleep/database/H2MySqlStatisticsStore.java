@@ -0,0 +1,27 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.sql.DriverManager;
+import java.util.logging.Logger;
+
+/**
+ * The MySQL dialect on an in-memory H2 database in MySQL compatibility mode
+ */
+final class H2MySqlStatisticsStore extends JdbcStatisticsStore {
+
+    private final String url;
+
+    H2MySqlStatisticsStore(String database, Logger logger) {
+        super(SqlDialect.MYSQL, logger);
+        this.url = "jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+    }
+
+    @Override
+    public String getName() {
+        return "H2 (MySQL mode)";
+    }
+
+    @Override
+    protected ConnectionPool createPool() {
+        return new ConnectionPool(() -> DriverManager.getConnection(url), logger, 2, 60_000L, 1_000L);
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryStatisticsStoreTest {
+
+    private final UUID world = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    void appendedEventsAreCountedAndKeptInOrder() throws StorageException {
+        InMemoryStatisticsStore store = new InMemoryStatisticsStore();
+        store.initialize();
+
+        SkipEventRecord night = skip("NIGHT", new VoteRecord(alice, "Alice", 1L, 0, 64, 0));
+        SkipEventRecord storm = skip("STORM", new VoteRecord(alice, "Alice", 2L, 0, 64, 0),
+                new VoteRecord(bob, "Bob", 3L, 5, 70, 5));
+
+        long first = store.appendSkipEvent(night);
+        store.appendVotes(first, night.getVotes());
+        store.appendAll(List.of(storm));
+
+        assertEquals(1L, first);
+        assertEquals(2L, store.getTotalSkipCount());
+        assertEquals(2L, store.getSkipCount(world));
+        assertEquals(2L, store.getVoteCount(alice));
+        assertEquals(1L, store.getVoteCount(bob));
+        assertEquals(Map.of("NIGHT", 1L, "STORM", 1L), store.getSkipCountsByType());
+
+        List<SkipEventRecord> events = store.getEvents();
+        assertEquals(2, events.size());
+        assertSame(night, events.get(0));
+        assertSame(storm, events.get(1));
+    }
+
+    @Test
+    void closeForgetsEverything() throws StorageException {
+        InMemoryStatisticsStore store = new InMemoryStatisticsStore();
+        store.appendAll(List.of(skip("NIGHT", new VoteRecord(alice, "Alice", 1L, 0, 64, 0))));
+
+        store.close();
+
+        assertEquals(0L, store.getTotalSkipCount());
+        assertEquals(0L, store.getVoteCount(alice));
+        assertTrue(store.getEvents().isEmpty());
+        assertTrue(store.getSkipCountsByType().isEmpty());
+    }
+
+    private SkipEventRecord skip(String type, VoteRecord... votes) {
+        return new SkipEventRecord("world", world, System.currentTimeMillis(), type, List.of(votes));
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the MySQL dialect against H2 in MySQL compatibility mode
+ */
+class JdbcStatisticsStoreTest {
+
+    private static final Logger LOGGER = Logger.getLogger(JdbcStatisticsStoreTest.class.getName());
+
+    private final UUID world = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    private JdbcStatisticsStore store;
+
+    @BeforeEach
+    void setUp() throws StorageException {
+        store = new H2MySqlStatisticsStore("vote2sleep_" + UUID.randomUUID().toString().replace('-', '_'), LOGGER);
+        store.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void appendSkipEventAndVotes() throws StorageException {
+        SkipEventRecord event = skip(world, "NIGHT", vote(alice, "Alice"), vote(bob, "Bob"));
+
+        long id = store.appendSkipEvent(event);
+        store.appendVotes(id, event.getVotes());
+
+        assertTrue(id > 0);
+        assertEquals(1L, store.getSkipCount(world));
+        assertEquals(1L, store.getTotalSkipCount());
+        assertEquals(1L, store.getVoteCount(alice));
+        assertEquals(1L, store.getVoteCount(bob));
+    }
+
+    @Test
+    void appendAllWritesEveryEventAndVote() throws StorageException {
+        UUID nether = UUID.randomUUID();
+        store.appendAll(List.of(
+                skip(world, "NIGHT", vote(alice, "Alice")),
+                skip(world, "STORM", vote(alice, "Alice"), vote(bob, "Bob")),
+                skip(nether, "NIGHT")));
+
+        assertEquals(3L, store.getTotalSkipCount());
+        assertEquals(2L, store.getSkipCount(world));
+        assertEquals(1L, store.getSkipCount(nether));
+        assertEquals(2L, store.getVoteCount(alice));
+        assertEquals(1L, store.getVoteCount(bob));
+        assertEquals(Map.of("NIGHT", 2L, "STORM", 1L), store.getSkipCountsByType());
+    }
+
+    @Test
+    void failedAppendAllRollsBackTheWholeGroup() throws StorageException {
+        // player_name is VARCHAR(32), so the second event's vote fails after the first event was inserted
+        String tooLong = "x".repeat(64);
+
+        assertThrows(StorageException.class, () -> store.appendAll(List.of(
+                skip(world, "NIGHT", vote(alice, "Alice")),
+                skip(world, "NIGHT", vote(bob, tooLong)))));
+
+        assertEquals(0L, store.getTotalSkipCount());
+        assertEquals(0L, store.getVoteCount(alice));
+
+        // The connection went back to the pool in auto-commit mode and is still usable
+        store.appendSkipEvent(skip(world, "NIGHT"));
+        assertEquals(1L, store.getTotalSkipCount());
+    }
+
+    @Test
+    void unknownKeysCountAsZero() throws StorageException {
+        assertEquals(0L, store.getSkipCount(UUID.randomUUID()));
+        assertEquals(0L, store.getVoteCount(UUID.randomUUID()));
+        assertTrue(store.getSkipCountsByType().isEmpty());
+    }
+
+    private static SkipEventRecord skip(UUID worldUuid, String type, VoteRecord... votes) {
+        return new SkipEventRecord("world", worldUuid, System.currentTimeMillis(), type, List.of(votes));
+    }
+
+    private static VoteRecord vote(UUID player, String name) {
+        return new VoteRecord(player, name, System.currentTimeMillis(), 1.5, 64.0, -3.25);
+    }
+}
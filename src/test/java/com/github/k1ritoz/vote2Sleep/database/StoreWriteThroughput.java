@@ -0,0 +1,128 @@
+package com.github.k1ritoz.vote2Sleep.database;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Write throughput of every storage backend under the same {@link StatisticsStore#appendAll}
+ * workload the database writer issues. Run with {@code ./gradlew storeThroughput}.
+ *
+ * <p>Each backend gets a fresh store per batch size, a few warmup rounds and then the measured
+ * rounds; the reported figure is skip events per second over the measured rounds.</p>
+ */
+public final class StoreWriteThroughput {
+
+    private static final Logger LOGGER = Logger.getLogger(StoreWriteThroughput.class.getName());
+
+    /** Batch sizes the writer produces: a lone event, a small burst and a full drain */
+    private static final int[] BATCH_SIZES = {1, 8, 32};
+    private static final int VOTES_PER_EVENT = 4;
+    private static final int EVENTS_PER_ROUND = 4_096;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private StoreWriteThroughput() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("vote2sleep-throughput");
+        try {
+            List<Backend> backends = List.of(
+                    new Backend("Memory", InMemoryStatisticsStore::new),
+                    new Backend("File", () -> new FlatFileStatisticsStore(
+                            new File(folder.toFile(), UUID.randomUUID().toString()), LOGGER)),
+                    new Backend("H2 (MySQL mode)", () -> new H2MySqlStatisticsStore(
+                            "throughput_" + UUID.randomUUID().toString().replace('-', '_'), LOGGER)));
+
+            System.out.printf(Locale.ROOT, "%-16s %6s %14s%n", "backend", "batch", "events/s");
+            for (Backend backend : backends) {
+                for (int batchSize : BATCH_SIZES) {
+                    double eventsPerSecond = measure(backend.factory, batches(batchSize));
+                    System.out.printf(Locale.ROOT, "%-16s %6d %14.0f%n", backend.name, batchSize, eventsPerSecond);
+                }
+            }
+        } finally {
+            deleteRecursively(folder);
+        }
+    }
+
+    private static double measure(Supplier<StatisticsStore> factory, List<List<SkipEventRecord>> batches)
+            throws StorageException {
+        StatisticsStore store = factory.get();
+        store.initialize();
+        try {
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                writeRound(store, batches);
+            }
+
+            long start = System.nanoTime();
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                writeRound(store, batches);
+            }
+            long elapsed = System.nanoTime() - start;
+            return (double) EVENTS_PER_ROUND * MEASURED_ROUNDS / (elapsed / 1_000_000_000.0);
+        } finally {
+            store.close();
+        }
+    }
+
+    private static void writeRound(StatisticsStore store, List<List<SkipEventRecord>> batches)
+            throws StorageException {
+        for (List<SkipEventRecord> batch : batches) {
+            store.appendAll(batch);
+        }
+    }
+
+    /**
+     * Builds one round of events up front so record construction stays out of the timing
+     */
+    private static List<List<SkipEventRecord>> batches(int batchSize) {
+        UUID world = UUID.randomUUID();
+        List<List<SkipEventRecord>> batches = new ArrayList<>();
+        List<SkipEventRecord> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < EVENTS_PER_ROUND; i++) {
+            List<VoteRecord> votes = new ArrayList<>(VOTES_PER_EVENT);
+            for (int v = 0; v < VOTES_PER_EVENT; v++) {
+                votes.add(new VoteRecord(UUID.randomUUID(), "Player" + v, i, v, 64, -v));
+            }
+            batch.add(new SkipEventRecord("world", world, i, i % 2 == 0 ? "NIGHT" : "STORM", votes));
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static void deleteRecursively(Path folder) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static final class Backend {
+
+        private final String name;
+        private final Supplier<StatisticsStore> factory;
+
+        private Backend(String name, Supplier<StatisticsStore> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+    }
+}
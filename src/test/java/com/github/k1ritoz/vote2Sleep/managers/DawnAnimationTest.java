@@ -0,0 +1,116 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DawnAnimationTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Start of the clock, away from zero so no test relies on it
+    private static final long T0 = TimeUnit.SECONDS.toNanos(1_000);
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 40 frames over two seconds on a 50 ms timer: one frame per tick
+     */
+    private DawnAnimation animation() {
+        return new DawnAnimation(13_000L, 12_000L, 40, 2_000 * MILLIS, 50 * MILLIS, dropped);
+    }
+
+    @Test
+    void endsOnTimeAtSteadyRate() {
+        DawnAnimation animation = animation();
+
+        for (long t = 0; t < 2_000; t += 50) {
+            assertTrue(animation.advance(T0 + t * MILLIS));
+            assertFalse(animation.isComplete(), "complete early at " + t + " ms");
+        }
+        assertTrue(animation.advance(T0 + 2_000 * MILLIS));
+
+        assertTrue(animation.isComplete());
+        assertEquals(1.0, animation.getProgress());
+        assertEquals(1_000L, animation.getWorldTime());
+        assertEquals(0L, dropped.get());
+    }
+
+    @Test
+    void endsOnTimeUnderLagByDroppingFrames() {
+        DawnAnimation animation = animation();
+
+        // The timer only gets to run every 400 ms
+        int shown = 0;
+        for (long t = 0; t <= 2_000; t += 400) {
+            if (animation.advance(T0 + t * MILLIS)) {
+                shown++;
+            }
+        }
+
+        assertTrue(animation.isComplete());
+        assertEquals(6, shown);
+        assertTrue(dropped.get() > 0L);
+        assertTrue(dropped.get() <= 40 - shown, "dropped " + dropped.get());
+    }
+
+    @Test
+    void countsOnlyFramesSkippedBeyondTheTimerCadence() {
+        DawnAnimation animation = animation();
+
+        for (long t = 0; t <= 500; t += 50) {
+            animation.advance(T0 + t * MILLIS);
+        }
+        // One 1 s stall: 20 frames are due at once, the last 1.5 periods of it are jitter
+        animation.advance(T0 + 1_500 * MILLIS);
+
+        assertEquals(18L, dropped.get());
+    }
+
+    @Test
+    void tickJitterIsNotCountedAsDropped() {
+        DawnAnimation animation = animation();
+
+        // Ticks alternate between 40 and 60 ms, so a frame is occasionally skipped
+        long t = 0;
+        for (int i = 0; t <= 2_000; i++) {
+            animation.advance(T0 + t * MILLIS);
+            t += i % 2 == 0 ? 40 : 60;
+        }
+
+        assertTrue(animation.isComplete());
+        assertEquals(0L, dropped.get());
+    }
+
+    @Test
+    void repeatedTimeShowsNoNewFrame() {
+        DawnAnimation animation = animation();
+
+        assertTrue(animation.advance(T0));
+        assertFalse(animation.advance(T0 + 10 * MILLIS));
+        assertEquals(0.0, animation.getProgress());
+        assertEquals(13_000L, animation.getWorldTime());
+    }
+
+    @Test
+    void easingIsClampedAndMatchesTheCosineCurve() {
+        assertEquals(0.0, DawnAnimation.Easing.at(-1.0));
+        assertEquals(0.0, DawnAnimation.Easing.at(0.0));
+        assertEquals(1.0, DawnAnimation.Easing.at(1.0), 1e-12);
+        assertEquals(1.0, DawnAnimation.Easing.at(2.0), 1e-12);
+        assertEquals(0.5, DawnAnimation.Easing.at(0.5), 1e-12);
+
+        double previous = 0.0;
+        for (int i = 1; i <= 1_000; i++) {
+            double progress = i / 1_000.0;
+            double eased = DawnAnimation.Easing.at(progress);
+            assertEquals(0.5 - 0.5 * Math.cos(Math.PI * progress), eased, 1e-4);
+            assertTrue(eased >= previous, "not monotonic at " + progress);
+            previous = eased;
+        }
+    }
+}
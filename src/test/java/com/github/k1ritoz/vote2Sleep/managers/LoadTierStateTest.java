@@ -0,0 +1,101 @@
+package com.github.k1ritoz.vote2Sleep.managers;
+
+import com.github.k1ritoz.vote2Sleep.data.LoadThresholds;
+import com.github.k1ritoz.vote2Sleep.data.LoadTier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadTierStateTest {
+
+    private static final LoadThresholds THRESHOLDS = new LoadThresholds(40, 45, 50, 5);
+    private static final int RECOVERY = 3;
+
+    private final LoadTierState state = new LoadTierState();
+
+    @Test
+    void entersTheHighestReachedTierAtOnce() {
+        assertFalse(state.update(39.9, THRESHOLDS, RECOVERY));
+        assertEquals(LoadTier.NORMAL, state.tier);
+
+        assertTrue(state.update(47, THRESHOLDS, RECOVERY));
+        assertEquals(LoadTier.MINIMAL, state.tier);
+
+        assertTrue(state.update(120, THRESHOLDS, RECOVERY));
+        assertEquals(LoadTier.CRITICAL, state.tier);
+    }
+
+    @Test
+    void staysInTheTierWithinTheHysteresis() {
+        state.update(45, THRESHOLDS, RECOVERY);
+
+        // Below the enter level of MINIMAL but not below its exit level of 40
+        for (int i = 0; i < 10; i++) {
+            assertFalse(state.update(40, THRESHOLDS, RECOVERY));
+        }
+        assertEquals(LoadTier.MINIMAL, state.tier);
+    }
+
+    @Test
+    void recoversOneTierAtATimeAfterTheRecoverySamples() {
+        state.update(60, THRESHOLDS, RECOVERY);
+
+        assertFalse(state.update(10, THRESHOLDS, RECOVERY));
+        assertFalse(state.update(10, THRESHOLDS, RECOVERY));
+        assertTrue(state.update(10, THRESHOLDS, RECOVERY));
+        assertEquals(LoadTier.MINIMAL, state.tier);
+
+        for (int i = 0; i < RECOVERY; i++) {
+            state.update(10, THRESHOLDS, RECOVERY);
+        }
+        assertEquals(LoadTier.REDUCED, state.tier);
+
+        for (int i = 0; i < RECOVERY; i++) {
+            state.update(10, THRESHOLDS, RECOVERY);
+        }
+        assertEquals(LoadTier.NORMAL, state.tier);
+        assertFalse(state.update(10, THRESHOLDS, RECOVERY));
+    }
+
+    @Test
+    void aSampleAboveTheExitLevelRestartsRecovery() {
+        state.update(45, THRESHOLDS, RECOVERY);
+
+        state.update(10, THRESHOLDS, RECOVERY);
+        state.update(10, THRESHOLDS, RECOVERY);
+        // Not enough to enter a higher tier, but too high to count as calm
+        assertFalse(state.update(42, THRESHOLDS, RECOVERY));
+        state.update(10, THRESHOLDS, RECOVERY);
+        state.update(10, THRESHOLDS, RECOVERY);
+        assertEquals(LoadTier.MINIMAL, state.tier);
+
+        assertTrue(state.update(10, THRESHOLDS, RECOVERY));
+        assertEquals(LoadTier.REDUCED, state.tier);
+    }
+
+    @Test
+    void exitLevelKeepsSmallThresholdsRecoverable() {
+        // Lag-style thresholds where the hysteresis is larger than the threshold itself
+        LoadThresholds small = new LoadThresholds(4, 6, 8, 5);
+        assertEquals(2.0, small.exit(LoadTier.REDUCED));
+        assertEquals(4.0, small.exit(LoadTier.CRITICAL));
+
+        state.update(4, small, RECOVERY);
+        for (int i = 0; i < RECOVERY; i++) {
+            state.update(0, small, RECOVERY);
+        }
+        assertEquals(LoadTier.NORMAL, state.tier);
+    }
+
+    @Test
+    void thresholdsAreKeptInTierOrder() {
+        LoadThresholds misordered = new LoadThresholds(40, 30, 20, -1);
+
+        assertEquals(40.0, misordered.enter(LoadTier.MINIMAL));
+        assertEquals(40.0, misordered.enter(LoadTier.CRITICAL));
+        assertEquals(40.0, misordered.exit(LoadTier.REDUCED));
+        assertEquals(0.0, misordered.enter(LoadTier.NORMAL));
+    }
+}
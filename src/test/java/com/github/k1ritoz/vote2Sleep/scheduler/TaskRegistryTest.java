@@ -0,0 +1,129 @@
+package com.github.k1ritoz.vote2Sleep.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskRegistryTest {
+
+    private final TaskRegistry registry = new TaskRegistry();
+
+    @Test
+    void oneShotTaskIsUntrackedAfterItRuns() {
+        AtomicInteger runs = new AtomicInteger();
+        Runnable[] scheduled = new Runnable[1];
+
+        TaskHandle handle = registry.track(runs::incrementAndGet, false, wrapped -> {
+            scheduled[0] = wrapped;
+            return () -> { };
+        }).ownedBy(this);
+        assertEquals(1, registry.getActiveCount());
+
+        scheduled[0].run();
+        scheduled[0].run();
+
+        assertEquals(1, runs.get());
+        assertTrue(handle.isDone());
+        assertFalse(handle.isCancelled());
+        assertEquals(0, registry.getActiveCount());
+    }
+
+    @Test
+    void cancelledTaskDoesNotRunAndCancelsThePlatformTask() {
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger platformCancels = new AtomicInteger();
+        Runnable[] scheduled = new Runnable[1];
+
+        TaskHandle handle = registry.track(runs::incrementAndGet, false, wrapped -> {
+            scheduled[0] = wrapped;
+            return platformCancels::incrementAndGet;
+        });
+
+        handle.cancel();
+        handle.cancel();
+        scheduled[0].run();
+
+        assertEquals(0, runs.get());
+        assertEquals(1, platformCancels.get());
+        assertTrue(handle.isCancelled());
+        assertEquals(0, registry.getActiveCount());
+    }
+
+    @Test
+    void taskThatWasNotScheduledIsDoneImmediately() {
+        TaskHandle handle = registry.track(() -> { }, false, wrapped -> null);
+
+        assertTrue(handle.isDone());
+        assertEquals(0, registry.getActiveCount());
+    }
+
+    @Test
+    void retiredTaskIsUntrackedWithoutRunning() {
+        AtomicInteger runs = new AtomicInteger();
+        Runnable[] callbacks = new Runnable[2];
+
+        TaskHandle handle = registry.track(runs::incrementAndGet, false, (wrapped, retired) -> {
+            callbacks[0] = wrapped;
+            callbacks[1] = retired;
+            return () -> { };
+        }).ownedBy(this);
+
+        // The platform dropped the task, e.g. because its entity was removed
+        callbacks[1].run();
+        callbacks[0].run();
+
+        assertEquals(0, runs.get());
+        assertTrue(handle.isDone());
+        assertFalse(handle.isCancelled());
+        assertEquals(0, registry.getActiveCount());
+    }
+
+    @Test
+    void repeatingTaskStaysTrackedUntilCancelled() {
+        AtomicInteger runs = new AtomicInteger();
+        Runnable[] scheduled = new Runnable[1];
+
+        TaskHandle handle = registry.track(runs::incrementAndGet, true, wrapped -> {
+            scheduled[0] = wrapped;
+            return () -> { };
+        });
+
+        scheduled[0].run();
+        scheduled[0].run();
+        assertEquals(2, runs.get());
+        assertFalse(handle.isDone());
+
+        handle.cancel();
+        scheduled[0].run();
+        assertEquals(2, runs.get());
+        assertEquals(0, registry.getActiveCount());
+    }
+
+    @Test
+    void cancelAllByOwnerLeavesOtherTasks() {
+        Object owner = new Object();
+        List<TaskHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            handles.add(registry.track(() -> { }, true, wrapped -> () -> { }).ownedBy(owner));
+        }
+        TaskHandle other = registry.track(() -> { }, true, wrapped -> () -> { }).ownedBy(new Object());
+
+        registry.cancelAll(owner);
+
+        for (TaskHandle handle : handles) {
+            assertTrue(handle.isCancelled());
+        }
+        assertFalse(other.isDone());
+        assertEquals(1, registry.getActiveCount());
+
+        registry.cancelAll();
+        assertTrue(other.isCancelled());
+        assertEquals(0, registry.getActiveCount());
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.k1ritoz.vote2Sleep.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private final TimingWheel wheel = new TimingWheel(Logger.getLogger(TimingWheelTest.class.getName()));
+
+    @Test
+    void runsOnTheDeadlineTick() {
+        AtomicInteger runs = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(runs::incrementAndGet);
+
+        timeout.schedule(3);
+        assertTrue(timeout.isPending());
+        assertEquals(3L, timeout.getRemainingTicks());
+
+        tick(2);
+        assertEquals(0, runs.get());
+        assertEquals(1L, timeout.getRemainingTicks());
+
+        tick(1);
+        assertEquals(1, runs.get());
+        assertFalse(timeout.isPending());
+        assertEquals(-1L, timeout.getRemainingTicks());
+        assertEquals(0, wheel.getPendingCount());
+
+        tick(10);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void zeroDelayRunsOnTheNextTick() {
+        AtomicInteger runs = new AtomicInteger();
+        wheel.newTimeout(runs::incrementAndGet).schedule(0);
+
+        tick(1);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void deadlinesBeyondOneRotationWaitExtraRounds() {
+        AtomicInteger runs = new AtomicInteger();
+        // 300 is more than two rotations of the 128 slot wheel
+        wheel.newTimeout(runs::incrementAndGet).schedule(300);
+
+        tick(299);
+        assertEquals(0, runs.get());
+        tick(1);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void cancelledTimeoutNeverRuns() {
+        AtomicInteger runs = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(runs::incrementAndGet);
+
+        timeout.schedule(2);
+        timeout.cancel();
+        assertFalse(timeout.isPending());
+        assertEquals(0, wheel.getPendingCount());
+
+        tick(5);
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void rescheduleReplacesThePreviousDeadline() {
+        AtomicInteger runs = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(runs::incrementAndGet);
+
+        timeout.schedule(2);
+        tick(1);
+        timeout.schedule(5);
+        assertEquals(1, wheel.getPendingCount());
+
+        tick(4);
+        assertEquals(0, runs.get());
+        tick(1);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void timeoutCanBeReusedAfterItRan() {
+        AtomicInteger runs = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(runs::incrementAndGet);
+
+        timeout.schedule(1);
+        tick(1);
+        timeout.schedule(1);
+        tick(1);
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void timeoutRescheduledByAnEarlierTaskInTheSameTickIsNotRunStale() {
+        List<String> ran = new ArrayList<>();
+        TimingWheel.Timeout[] second = new TimingWheel.Timeout[1];
+
+        // Both expire on the same tick; the first pushes the second back before it gets to run
+        TimingWheel.Timeout first = wheel.newTimeout(() -> {
+            ran.add("first");
+            second[0].schedule(3);
+        });
+        second[0] = wheel.newTimeout(() -> ran.add("second"));
+
+        second[0].schedule(1);
+        first.schedule(1);
+        tick(1);
+
+        assertEquals(List.of("first"), ran);
+        assertTrue(second[0].isPending());
+
+        tick(3);
+        assertEquals(List.of("first", "second"), ran);
+    }
+
+    @Test
+    void timeoutCancelledByAnEarlierTaskInTheSameTickDoesNotRun() {
+        List<String> ran = new ArrayList<>();
+        TimingWheel.Timeout[] second = new TimingWheel.Timeout[1];
+
+        TimingWheel.Timeout first = wheel.newTimeout(() -> {
+            ran.add("first");
+            second[0].cancel();
+        });
+        second[0] = wheel.newTimeout(() -> ran.add("second"));
+
+        second[0].schedule(1);
+        first.schedule(1);
+        tick(1);
+
+        assertEquals(List.of("first"), ran);
+    }
+
+    @Test
+    void failingTaskDoesNotStopOthersDueInTheSameTick() {
+        AtomicInteger runs = new AtomicInteger();
+        wheel.newTimeout(() -> {
+            throw new IllegalStateException("expected");
+        }).schedule(1);
+        wheel.newTimeout(runs::incrementAndGet).schedule(1);
+
+        tick(1);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void clearCancelsEverything() {
+        AtomicInteger runs = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(runs::incrementAndGet);
+        timeout.schedule(1);
+        wheel.newTimeout(runs::incrementAndGet).schedule(200);
+
+        wheel.clear();
+        assertEquals(0, wheel.getPendingCount());
+        assertFalse(timeout.isPending());
+
+        tick(300);
+        assertEquals(0, runs.get());
+
+        // Cleared timeouts can still be scheduled again
+        timeout.schedule(1);
+        tick(1);
+        assertEquals(1, runs.get());
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.tick();
+        }
+    }
+}
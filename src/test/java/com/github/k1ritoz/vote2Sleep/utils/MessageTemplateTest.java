@@ -0,0 +1,99 @@
+package com.github.k1ritoz.vote2Sleep.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageTemplateTest {
+
+    @Test
+    void rendersStringAndNumberArguments() {
+        MessageTemplate template = MessageTemplate.compile("{player} voted ({current}/{required})");
+
+        String rendered = template.render(MessageArgs.of(Placeholder.PLAYER, "Alice")
+                .with(Placeholder.CURRENT, 2)
+                .with(Placeholder.REQUIRED, 3));
+
+        assertEquals("Alice voted (2/3)", rendered);
+    }
+
+    @Test
+    void translatesColorCodesAtCompileTime() {
+        MessageTemplate template = MessageTemplate.compile("&aVotes: &e{current}");
+
+        assertEquals("\u00a7aVotes: \u00a7e{current}", template.getText());
+        assertEquals("\u00a7aVotes: \u00a7e5", template.render(MessageArgs.of(Placeholder.CURRENT, 5)));
+    }
+
+    @Test
+    void repeatedPlaceholderIsFilledEveryTime() {
+        MessageTemplate template = MessageTemplate.compile("{world} / {world}");
+
+        assertEquals("overworld / overworld", template.render(MessageArgs.of(Placeholder.WORLD, "overworld")));
+    }
+
+    @Test
+    void unsetPlaceholderIsLeftInPlace() {
+        MessageTemplate template = MessageTemplate.compile("{current}/{required}");
+
+        assertEquals("1/{required}", template.render(MessageArgs.of(Placeholder.CURRENT, 1)));
+    }
+
+    @Test
+    void unknownTokensStayLiteral() {
+        MessageTemplate template = MessageTemplate.compile("{unknown} {player} {");
+
+        assertEquals("{unknown} Bob {", template.render(MessageArgs.of(Placeholder.PLAYER, "Bob")));
+    }
+
+    @Test
+    void laterValueReplacesEarlierOne() {
+        MessageArgs args = MessageArgs.of(Placeholder.COUNT, 7).with(Placeholder.COUNT, "seven");
+        assertEquals("seven", MessageTemplate.compile("{count}").render(args));
+
+        args.with(Placeholder.COUNT, 8);
+        assertEquals("8", MessageTemplate.compile("{count}").render(args));
+    }
+
+    @Test
+    void templateWithoutSlotsReturnsItsText() {
+        MessageTemplate template = MessageTemplate.compile("&cNo permission");
+
+        assertFalse(template.hasSlots());
+        assertSame(template.getText(), template.render(MessageArgs.of(Placeholder.PLAYER, "Alice")));
+        assertSame(template.getText(), template.render((MessageArgs) null));
+    }
+
+    @Test
+    void rendersNameKeyedMaps() {
+        MessageTemplate template = MessageTemplate.compile("{player} in {world}");
+
+        assertEquals("Alice in {world}", template.render(Map.of("player", "Alice")));
+        assertEquals("{player} in {world}", template.render(Map.<String, String>of()));
+    }
+
+    @Test
+    void rendersCustomTokensFromMaps() {
+        MessageTemplate template = MessageTemplate.compile("{player} has {coins} coins in {bank}");
+
+        assertEquals("Alice has 12 coins in {bank}",
+                template.render(Map.of("player", "Alice", "coins", "12")));
+        assertEquals("Total: 3", MessageTemplate.compile("Total: {total}").render(Map.of("total", "3")));
+        assertEquals("{ {x} }", MessageTemplate.compile("{ {x} }").render(Map.of("y", "1")));
+    }
+
+    @Test
+    void detectsPlaceholderApiTokens() {
+        assertTrue(MessageTemplate.compile("Hi %player_name%").usesPlaceholderApi());
+        assertTrue(MessageTemplate.compile("{player} %vault_eco_balance%").usesPlaceholderApi());
+        assertFalse(MessageTemplate.compile("Progress: {progress}%").usesPlaceholderApi());
+        assertFalse(MessageTemplate.compile("100%%").usesPlaceholderApi());
+        assertTrue(MessageTemplate.compile("100%% %player_name%").usesPlaceholderApi());
+        assertFalse(MessageTemplate.compile("100%% and 50%%").usesPlaceholderApi());
+    }
+}
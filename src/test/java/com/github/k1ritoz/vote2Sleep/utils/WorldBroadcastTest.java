@@ -0,0 +1,79 @@
+package com.github.k1ritoz.vote2Sleep.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.title.Title;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * On Paper every broadcast must reach the world audience in one call, with the payload built
+ * once, instead of looping over the players
+ */
+class WorldBroadcastTest {
+
+    private static String legacy(Component component) {
+        return LegacyComponentSerializer.legacySection().serialize(component);
+    }
+
+    @Test
+    void adventureIsDetectedOnPaper() {
+        assertTrue(WorldBroadcast.isAdventureAvailable());
+    }
+
+    @Test
+    void messageIsOneFanOutCall() {
+        World world = mock(World.class);
+
+        WorldBroadcast.message(world, "\u00a7aTime to sleep");
+
+        ArgumentCaptor<Component> message = ArgumentCaptor.forClass(Component.class);
+        verify(world, times(1)).sendMessage(message.capture());
+        verify(world, never()).getPlayers();
+        assertEquals("\u00a7aTime to sleep", legacy(message.getValue()));
+    }
+
+    @Test
+    void actionBarIsOneFanOutCall() {
+        World world = mock(World.class);
+
+        WorldBroadcast.actionBar(world, "\u00a7e2/3 votes");
+
+        ArgumentCaptor<Component> actionBar = ArgumentCaptor.forClass(Component.class);
+        verify(world, times(1)).sendActionBar(actionBar.capture());
+        verify(world, never()).getPlayers();
+        assertEquals("\u00a7e2/3 votes", legacy(actionBar.getValue()));
+    }
+
+    @Test
+    void titleIsBuiltOnceWithTickDurations() {
+        World world = mock(World.class);
+
+        WorldBroadcast.title(world, "\u00a76Good morning", "\u00a77The night was skipped", 10, 60, 20);
+
+        ArgumentCaptor<Title> title = ArgumentCaptor.forClass(Title.class);
+        verify(world, times(1)).showTitle(title.capture());
+        verify(world, never()).getPlayers();
+
+        Title shown = title.getValue();
+        assertEquals("\u00a76Good morning", legacy(shown.title()));
+        assertEquals("\u00a77The night was skipped", legacy(shown.subtitle()));
+
+        Title.Times times = shown.times();
+        assertNotNull(times);
+        assertEquals(Duration.ofMillis(500), times.fadeIn());
+        assertEquals(Duration.ofSeconds(3), times.stay());
+        assertEquals(Duration.ofSeconds(1), times.fadeOut());
+    }
+}